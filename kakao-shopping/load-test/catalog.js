@@ -0,0 +1,47 @@
+/*
+platform thread 와 virtual thread 설정의 처리량과 p99 지연 시간을 비교하는 k6 부하 테스트.
+
+  ./gradlew bootRun --args='--spring.profiles.active=local'
+  k6 run -e VUS=1000 load-test/catalog.js
+  k6 run -e VUS=5000 load-test/catalog.js
+
+  ./gradlew bootRun --args='--spring.profiles.active=local,virtual'
+  k6 run -e VUS=1000 load-test/catalog.js
+  k6 run -e VUS=5000 load-test/catalog.js
+
+결과의 http_reqs (초당 요청 수) 와 http_req_duration 의 p(99) 를 비교한다.
+상품 조회는 캐시를 우회하도록 cursor 목록을 사용하고, 장바구니/주문 조회는 DB 를 거친다.
+ */
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 1000);
+
+export const options = {
+    scenarios: {
+        catalog: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '1m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const response = http.post(
+        `${BASE_URL}/login`,
+        JSON.stringify({ email: __ENV.EMAIL || 'moon@kakao.com', password: __ENV.PASSWORD || 'qwer1234!' }),
+        { headers: { 'Content-Type': 'application/json' } }
+    );
+    return { token: response.headers['Authorization'] };
+}
+
+export default function (data) {
+    const headers = { Authorization: data.token };
+
+    check(http.get(`${BASE_URL}/product?cursor=`), { 'product 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/cart`, { headers }), { 'cart 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/order/1`, { headers }), { 'order 2xx/4xx': (r) => r.status < 500 });
+}
@@ -0,0 +1,75 @@
+package com.kakao.shopping._core.pricing;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/*
+100개 줄의 장바구니 가격 계산 비용을 측정한다.
+- perLineObjects : 기존 방식. 줄마다 객체를 만들고 stream 으로 합산한다.
+- pipeline : 할인, 쿠폰 단계를 모두 거친다. 같은 PricingLines 를 재사용한다.
+-prof gc 로 실행하면 pipeline 의 op 당 할당량이 0 에 가까워야 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingPipelineBenchmark {
+    private static final int LINE_COUNT = 100;
+
+    private record Line(long optionId, long unitPrice, long quantity) {
+        long price() {
+            return unitPrice * quantity;
+        }
+    }
+
+    private long[] optionIds;
+    private long[] unitPrices;
+    private long[] quantities;
+    private PricingLines lines;
+    private PricingPipeline pipeline;
+
+    @Setup
+    public void setUp() {
+        optionIds = new long[LINE_COUNT];
+        unitPrices = new long[LINE_COUNT];
+        quantities = new long[LINE_COUNT];
+        Map<Long, Integer> discounts = new HashMap<>();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            optionIds[i] = i + 1;
+            unitPrices[i] = 1000L + i * 100L;
+            quantities[i] = i % 3 + 1;
+            if (i % 4 == 0) {
+                discounts.put(optionIds[i], 1000);
+            }
+        }
+
+        lines = new PricingLines(LINE_COUNT);
+        pipeline = PricingPipeline.compile(new PricingPolicy(
+                discounts,
+                List.of(new CouponStage.Tier(50000L, 3000L), new CouponStage.Tier(100000L, 10000L))
+        ));
+    }
+
+    @Benchmark
+    public long perLineObjects() {
+        return IntStream.range(0, LINE_COUNT)
+                .mapToObj(i -> new Line(optionIds[i], unitPrices[i], quantities[i]))
+                .toList()
+                .stream()
+                .mapToLong(Line::price)
+                .sum();
+    }
+
+    @Benchmark
+    public long pipeline() {
+        lines.clear();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            lines.add(optionIds[i], unitPrices[i], quantities[i]);
+        }
+        return pipeline.price(lines);
+    }
+}
@@ -0,0 +1,62 @@
+package com.kakao.shopping._core.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.kakao.shopping.domain.UserAccount;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+요청 한 건의 인증 비용을 비교한다.
+- perRequestVerifier : 기존 방식. 요청마다 Algorithm 과 JWTVerifier 를 만들고 토큰을 디코딩한다.
+- sharedVerifier : 공유 JWTVerifier 로 검증만 한다.
+- cachedAuthentication : 필터가 사용하는 경로. 이미 검증한 토큰은 캐시에서 꺼낸다.
+여러 스레드에서 초당 처리량을 측정하므로 결과의 ops/s 가 곧 인증 가능한 요청 수이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAuthenticationBenchmark {
+    private String token;
+    private JwtAuthenticationFilter filter;
+
+    @Setup
+    public void setUp() {
+        UserAccount userAccount = UserAccount.builder()
+                .id(1L)
+                .email("benchmark@naver.com")
+                .roles("ROLE_USER")
+                .build();
+        token = JwtTokenProvider.create(userAccount);
+        filter = new JwtAuthenticationFilter(authentication -> authentication);
+    }
+
+    @Benchmark
+    public Authentication perRequestVerifier() {
+        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(JwtTokenProvider.SECRET))
+                .build()
+                .verify(token.replace(JwtTokenProvider.PREFIX, ""));
+
+        UserAccount user = UserAccount.builder()
+                .id(decodedJWT.getClaim("id").asLong())
+                .roles(decodedJWT.getClaim("role").asString())
+                .build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
+    }
+
+    @Benchmark
+    public DecodedJWT sharedVerifier() {
+        return JwtTokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Authentication cachedAuthentication() {
+        return filter.authenticate(token);
+    }
+}
@@ -0,0 +1,67 @@
+package com.kakao.shopping._core.stock;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+hot 옵션에 예약이 몰릴 때 예약 로그 기록의 처리량을 측정한다.
+- perRecordFlush : 기존 방식. 기록마다 전역 lock 안에서 write, flush 한다.
+- groupCommit : StockReservationLog. 동시에 들어온 기록을 모아 flush 한 번으로 쓴다.
+두 방식 모두 자신의 기록이 flush 된 뒤에 돌아간다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class StockReservationLogBenchmark {
+    private Path directory;
+    private StockReservationLog log;
+    private BufferedWriter writer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("stock-log-benchmark");
+        log = new StockReservationLog(directory.resolve("group.log"));
+        writer = Files.newBufferedWriter(
+                directory.resolve("per-record.log"),
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        log.truncate();
+        writer.close();
+        Files.deleteIfExists(directory.resolve("per-record.log"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void perRecordFlush() throws IOException {
+        lock.lock();
+        try {
+            writer.write("R " + 1L + " " + 1L);
+            writer.newLine();
+            writer.flush();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Benchmark
+    public void groupCommit() {
+        log.reserve(1L, 1L);
+    }
+}
@@ -0,0 +1,73 @@
+package com.kakao.shopping.service;
+
+import com.kakao.shopping._core.cache.CartSnapshot;
+import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.domain.OrderItem;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.dto.cart.CartDTO;
+import com.kakao.shopping.dto.order.OrderDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+장바구니와 주문 상품의 상품별 묶음 처리가 장바구니 크기에 선형으로 증가하는지 확인한다.
+lineCount 가 10배가 될 때 op 당 시간도 10배 안팎이어야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartGroupingBenchmark {
+    private static final int OPTIONS_PER_PRODUCT = 5;
+
+    @Param({"1000", "5000", "10000"})
+    private int lineCount;
+
+    private List<Cart> savedCarts;
+    private List<OrderItem> orderItems;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Field productId = Product.class.getDeclaredField("id");
+        productId.setAccessible(true);
+
+        savedCarts = new ArrayList<>(lineCount / 2);
+        orderItems = new ArrayList<>(lineCount);
+
+        Product product = null;
+        for (int i = 0; i < lineCount; i++) {
+            if (i % OPTIONS_PER_PRODUCT == 0) {
+                product = Product.of("product " + i, "", "images/" + i, 1000L, null);
+                productId.set(product, (long) i / OPTIONS_PER_PRODUCT + 1);
+            }
+
+            ProductOption option = ProductOption.builder()
+                    .id((long) i + 1)
+                    .product(product)
+                    .name("option " + i)
+                    .price(1000L)
+                    .stock(10L)
+                    .build();
+            orderItems.add(OrderItem.of(null, option, 1L, option.getPrice()));
+
+            // 절반의 옵션만 장바구니에 담는다.
+            if (i % 2 == 0) {
+                savedCarts.add(Cart.builder().id((long) i + 1).productOption(option).quantity(1L).build());
+            }
+        }
+    }
+
+    @Benchmark
+    public CartDTO groupCartsByProduct() {
+        return CartSnapshot.of(savedCarts).toDTO();
+    }
+
+    @Benchmark
+    public OrderDTO groupOrderItemsByProduct() {
+        return OrderService.toDTO(1L, orderItems);
+    }
+}
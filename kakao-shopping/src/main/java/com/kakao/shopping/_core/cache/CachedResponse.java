@@ -0,0 +1,13 @@
+package com.kakao.shopping._core.cache;
+
+import org.springframework.util.DigestUtils;
+
+// 미리 직렬화한 응답 본문과 그 본문의 ETag
+public record CachedResponse(
+        byte[] body,
+        String eTag
+) {
+    public static CachedResponse of(byte[] body) {
+        return new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
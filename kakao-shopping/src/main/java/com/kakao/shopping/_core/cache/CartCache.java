@@ -0,0 +1,112 @@
+package com.kakao.shopping._core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakao.shopping.domain.Cart;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/*
+사용자별 장바구니 snapshot 캐시.
+전체 크기가 max-bytes 를 넘으면 최근에 덜 사용된 사용자의 장바구니부터 제거된다.
+장바구니 변경은 DB 에 먼저 쓰고, 트랜잭션이 커밋된 뒤에 캐시된 snapshot 에 같은 변경을 적용한다.
+캐시에 없는 사용자의 변경은 적용하지 않으며, 다음 조회 때 DB 에서 다시 읽는다.
+snapshot 은 상품명, 옵션명, 옵션 가격도 보관하므로 판매자가 상품을 수정하면 그 상품을 담은 snapshot 을 모두 제거한다.
+ */
+@Component
+public class CartCache {
+    public static final String CART = "cart";
+
+    private final Cache<Long, CartSnapshot> carts;
+    private final Counter mismatches;
+
+    public CartCache(
+            MeterRegistry meterRegistry,
+            @Value("${cart.cache.max-bytes:33554432}") long maxBytes,
+            @Value("${cart.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.carts = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long userId, CartSnapshot snapshot) -> snapshot.weight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.mismatches = Counter.builder("cart.cache.mismatches")
+                .description("캐시된 장바구니가 DB 와 달라 제거된 횟수")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, carts, CART);
+    }
+
+    public CartSnapshot get(Long userId, Function<Long, CartSnapshot> loader) {
+        return carts.get(userId, loader);
+    }
+
+    /*
+    변경 전에 DB 에서 읽은 줄과 합계로 캐시된 snapshot 을 검증한다.
+    변경할 줄만 읽으므로 다르면 snapshot 을 다시 만들 수 없어, 캐시에서 제거하고 다음 조회 때 DB 에서 읽는다.
+     */
+    public void verify(Long userId, CartSnapshot actual) {
+        CartSnapshot cached = carts.getIfPresent(userId);
+        if (cached == null) {
+            return;
+        }
+
+        if (!cached.contains(actual)) {
+            mismatches.increment();
+            evict(userId);
+        }
+    }
+
+    public void upsert(Long userId, List<Cart> changedCarts) {
+        CartSnapshot changed = CartSnapshot.of(changedCarts);
+        apply(userId, snapshot -> snapshot.upsert(changed));
+    }
+
+    public void remove(Long userId, Collection<Long> cartIds) {
+        apply(userId, snapshot -> snapshot.remove(cartIds));
+    }
+
+    public void evict(Long userId) {
+        carts.invalidate(userId);
+        afterCommit(() -> carts.invalidate(userId));
+    }
+
+    // 상품 수정은 드물므로 캐시된 snapshot 전체를 훑어 해당 상품을 담은 장바구니만 제거한다.
+    public void evictProduct(Long productId) {
+        Runnable action = () -> carts.asMap().values().removeIf(snapshot -> snapshot.containsProduct(productId));
+        action.run();
+        afterCommit(action);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private void apply(Long userId, UnaryOperator<CartSnapshot> change) {
+        afterCommit(() -> carts.asMap().computeIfPresent(userId, (key, snapshot) -> change.apply(snapshot)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
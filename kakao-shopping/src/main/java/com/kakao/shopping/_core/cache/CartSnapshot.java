@@ -0,0 +1,118 @@
+package com.kakao.shopping._core.cache;
+
+import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.dto.cart.CartDTO;
+import com.kakao.shopping.dto.cart.CartItemDTO;
+import com.kakao.shopping.dto.cart.CartProductDTO;
+import com.kakao.shopping.dto.cart.CartProductOptionDTO;
+import com.kakao.shopping.dto.cart.CartTotalDTO;
+
+import java.util.*;
+
+/*
+한 사용자의 장바구니를 조회 응답에 필요한 값만으로 보관하는 불변 객체.
+변경은 항상 새 snapshot 을 만들어 교체하며, 합계는 바뀐 줄의 차이만큼만 조정한다.
+ */
+public record CartSnapshot(
+        List<Line> lines,
+        long totalPrice,
+        long itemCount
+) {
+    // 문자열을 제외한 한 줄의 대략적인 크기 (byte)
+    private static final int LINE_OVERHEAD = 96;
+
+    public record Line(
+            Long cartId,
+            Long productId,
+            String productName,
+            Long optionId,
+            String optionName,
+            Long optionPrice,
+            Long quantity,
+            Long price
+    ) {
+        static Line of(Cart cart) {
+            ProductOption option = cart.getProductOption();
+            Product product = option.getProduct();
+            return new Line(cart.getId(), product.getId(), product.getName(), option.getId(), option.getName(), option.getPrice(), cart.getQuantity(), cart.getPrice());
+        }
+    }
+
+    public static CartSnapshot of(List<Cart> carts, CartTotalDTO total) {
+        return new CartSnapshot(carts.stream().map(Line::of).toList(), total.totalPrice(), total.itemCount());
+    }
+
+    // 합계를 함께 읽지 않은 변경분을 만들 때 사용한다.
+    public static CartSnapshot of(List<Cart> carts) {
+        List<Line> lines = carts.stream().map(Line::of).toList();
+        return new CartSnapshot(lines, lines.stream().mapToLong(Line::price).sum(), lines.stream().mapToLong(Line::quantity).sum());
+    }
+
+    // 상품 id 기준으로 묶어 조회 응답을 만든다. 상품 순서는 장바구니 순서를 따른다.
+    public CartDTO toDTO() {
+        Map<Long, List<Line>> linesByProductId = new LinkedHashMap<>();
+        lines.forEach(line -> linesByProductId.computeIfAbsent(line.productId(), key -> new ArrayList<>()).add(line));
+
+        List<CartProductDTO> products = linesByProductId
+                .values()
+                .stream()
+                .map(productLines -> {
+                    Line first = productLines.get(0);
+                    List<CartItemDTO> items = productLines
+                            .stream()
+                            .map(line -> new CartItemDTO(line.optionId(), new CartProductOptionDTO(line.optionId(), line.optionName(), line.optionPrice()), line.quantity(), line.price()))
+                            .toList();
+                    return new CartProductDTO(first.productId(), first.productName(), items);
+                })
+                .toList();
+        return new CartDTO(products, totalPrice);
+    }
+
+    // 일부 줄만 읽은 snapshot 의 줄이 모두 같은 값으로 들어 있고 합계도 같은지 확인한다.
+    public boolean contains(CartSnapshot partial) {
+        return totalPrice == partial.totalPrice()
+                && itemCount == partial.itemCount()
+                && new HashSet<>(lines).containsAll(partial.lines());
+    }
+
+    public boolean containsProduct(Long productId) {
+        return lines.stream().anyMatch(line -> line.productId().equals(productId));
+    }
+
+    // 같은 장바구니 id 의 줄은 교체하고, 없던 줄은 뒤에 붙인다.
+    public CartSnapshot upsert(CartSnapshot changed) {
+        Map<Long, Line> linesByCartId = new LinkedHashMap<>();
+        lines.forEach(line -> linesByCartId.put(line.cartId(), line));
+
+        long price = totalPrice;
+        long count = itemCount;
+        for (Line line : changed.lines()) {
+            Line previous = linesByCartId.put(line.cartId(), line);
+            if (previous != null) {
+                price -= previous.price();
+                count -= previous.quantity();
+            }
+            price += line.price();
+            count += line.quantity();
+        }
+        return new CartSnapshot(List.copyOf(linesByCartId.values()), price, count);
+    }
+
+    public CartSnapshot remove(Collection<Long> cartIds) {
+        Set<Long> removedIds = new HashSet<>(cartIds);
+        List<Line> removed = lines.stream().filter(line -> removedIds.contains(line.cartId())).toList();
+        return new CartSnapshot(
+                lines.stream().filter(line -> !removedIds.contains(line.cartId())).toList(),
+                totalPrice - removed.stream().mapToLong(Line::price).sum(),
+                itemCount - removed.stream().mapToLong(Line::quantity).sum()
+        );
+    }
+
+    int weight() {
+        return lines.stream()
+                .mapToInt(line -> LINE_OVERHEAD + 2 * (line.productName().length() + line.optionName().length()))
+                .sum() + LINE_OVERHEAD;
+    }
+}
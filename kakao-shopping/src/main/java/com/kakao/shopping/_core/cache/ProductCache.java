@@ -0,0 +1,125 @@
+package com.kakao.shopping._core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakao.shopping.dto.product.ProductDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+상품 상세 조회 결과를 상품 id 기준으로 보관하는 캐시.
+상품 정보와 옵션 구성은 판매자가 수정할 때까지 유지되고, 재고는 주문마다 바뀌므로 짧은 TTL 의 별도 캐시에 둔다.
+상품 상세와 상품 목록 페이지는 직렬화된 응답 본문으로도 보관한다. 상세 응답은 재고를 포함하므로 재고 캐시와 같은 TTL 을 쓴다.
+hit/miss/eviction 통계는 actuator 의 cache.* 메트릭으로 노출된다.
+ */
+@Component
+public class ProductCache {
+    public static final String PRODUCT = "product";
+    public static final String PRODUCT_STOCK = "productStock";
+    public static final String PRODUCT_RESPONSE = "productResponse";
+    public static final String PRODUCT_PAGE_RESPONSE = "productPageResponse";
+
+    private final Cache<Long, ProductDTO> products;
+    private final Cache<Long, Map<Long, Long>> stocks;
+    private final Cache<Long, CachedResponse> productResponses;
+    private final Cache<Integer, CachedResponse> pageResponses;
+
+    public ProductCache(
+            MeterRegistry meterRegistry,
+            @Value("${product.cache.maximum-size:10000}") long maximumSize,
+            @Value("${product.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${product.cache.stock-ttl-seconds:1}") long stockTtlSeconds
+    ) {
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.stocks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(stockTtlSeconds))
+                .recordStats()
+                .build();
+        this.productResponses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(stockTtlSeconds))
+                .recordStats()
+                .build();
+        this.pageResponses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, products, PRODUCT);
+        CaffeineCacheMetrics.monitor(meterRegistry, stocks, PRODUCT_STOCK);
+        CaffeineCacheMetrics.monitor(meterRegistry, productResponses, PRODUCT_RESPONSE);
+        CaffeineCacheMetrics.monitor(meterRegistry, pageResponses, PRODUCT_PAGE_RESPONSE);
+    }
+
+    // loader 가 던진 예외는 그대로 전달되고, 이 경우 아무것도 캐시되지 않는다.
+    public ProductDTO getProduct(Long productId, Function<Long, ProductDTO> loader) {
+        return products.get(productId, loader);
+    }
+
+    // key 는 옵션 id, value 는 재고
+    public Map<Long, Long> getStocks(Long productId, Function<Long, Map<Long, Long>> loader) {
+        return stocks.get(productId, loader);
+    }
+
+    public CachedResponse getProductResponse(Long productId, Function<Long, CachedResponse> renderer) {
+        return productResponses.get(productId, renderer);
+    }
+
+    public CachedResponse getPageResponse(int page, Function<Integer, CachedResponse> renderer) {
+        return pageResponses.get(page, renderer);
+    }
+
+    // 상품 정보가 바뀌면 그 상품이 포함된 목록 페이지도 모두 지운다.
+    public void evictProduct(Long productId) {
+        evict(() -> {
+            products.invalidate(productId);
+            stocks.invalidate(productId);
+            productResponses.invalidate(productId);
+            pageResponses.invalidateAll();
+        });
+    }
+
+    public void evictStocks(Long productId) {
+        evict(() -> {
+            stocks.invalidate(productId);
+            productResponses.invalidate(productId);
+        });
+    }
+
+    // 상품이 추가되면 페이지 구성이 밀리므로 목록 페이지를 모두 지운다.
+    public void evictPages() {
+        evict(pageResponses::invalidateAll);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /*
+    커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로,
+    트랜잭션 안에서 호출되면 지금 한 번, 커밋된 뒤에 한 번 더 지운다.
+     */
+    private static void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.kakao.shopping._core.datasource;
+
+import com.kakao.shopping._core.security.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+
+/*
+datasource.replica.url 이 설정된 경우에만 primary / replica 로 나누어 연결한다.
+primary 는 spring.datasource 설정을, replica 는 datasource.replica 설정을 사용한다.
+ */
+@ConditionalOnProperty("datasource.replica.url")
+@Configuration
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicationRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    // 계정과 드라이버를 따로 설정하지 않으면 primary 와 같은 값을 사용한다.
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:#{null}}") String username,
+            @Value("${datasource.replica.password:#{null}}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username == null ? properties.determineUsername() : username)
+                .password(password == null ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName(ReplicationRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            ReplicaStickiness stickiness
+    ) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource,
+                stickiness,
+                DataSourceConfig::currentUserId
+        );
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserAccount().getId();
+        }
+        return null;
+    }
+}
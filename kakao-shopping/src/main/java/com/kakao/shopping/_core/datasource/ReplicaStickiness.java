@@ -0,0 +1,45 @@
+package com.kakao.shopping._core.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/*
+최근에 장바구니나 주문을 변경한 사용자를 기록한다.
+기록된 사용자의 읽기 전용 요청은 sticky-seconds 동안 replica 대신 primary 에서 읽어,
+replica 의 복제 지연 때문에 자신이 방금 변경한 내용이 보이지 않는 일이 없도록 한다.
+기록은 서버 인스턴스의 메모리에만 남는다. 여러 인스턴스로 운영할 때는 로드 밸런서에서 같은 사용자의 요청을 같은 인스턴스로 보내야 하며,
+그렇지 않으면 다른 인스턴스로 간 읽기 요청은 sticky-seconds 안에도 replica 에서 읽을 수 있다.
+ */
+@Component
+public class ReplicaStickiness {
+    private final Cache<Long, Boolean> writers;
+
+    public ReplicaStickiness(@Value("${datasource.replica.sticky-seconds:5}") long stickySeconds) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(stickySeconds))
+                .build();
+    }
+
+    // 커밋 시점부터 유지되도록 커밋 후에 다시 기록한다.
+    public void markWritten(Long userId) {
+        writers.put(userId, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writers.put(userId, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    public boolean isSticky(Long userId) {
+        return userId != null && writers.getIfPresent(userId) != null;
+    }
+}
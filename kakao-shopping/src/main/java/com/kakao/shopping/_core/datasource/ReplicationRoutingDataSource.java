@@ -0,0 +1,44 @@
+package com.kakao.shopping._core.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+읽기 전용 트랜잭션은 replica 로, 그 외는 primary 로 보낸다.
+트랜잭션이 시작된 뒤에 연결을 얻어야 readOnly 여부를 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+모든 사용자가 함께 읽는 캐시에는 replica 의 복제 지연이 남지 않아야 한다.
+상품 캐시는 읽기 전용이 아닌 트랜잭션에서 채우고 (ProductService 참고), replica 에서 상품이나 옵션을 함께 읽는 조회는
+2차 캐시에 저장하지 않는다. (ProductRepository.findAllByIdGreaterThan, CartRepository.findAllByUserAccountId 참고)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaStickiness stickiness;
+    private final Supplier<Long> currentUserId;
+
+    public ReplicationRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaStickiness stickiness,
+            Supplier<Long> currentUserId
+    ) {
+        this.stickiness = stickiness;
+        this.currentUserId = currentUserId;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return stickiness.isSticky(currentUserId.get()) ? PRIMARY : REPLICA;
+    }
+}
@@ -2,6 +2,7 @@ package com.kakao.shopping._core.errors;
 
 import com.kakao.shopping._core.errors.exception.*;
 import com.kakao.shopping._core.utils.ApiUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -40,6 +41,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(exception.body(), exception.status());
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> tooManyRequests(TooManyRequestsException exception) {
+        return ResponseEntity.status(exception.status())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(exception.body());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> methodArgumentNotValid(MethodArgumentNotValidException exception) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -0,0 +1,31 @@
+package com.kakao.shopping._core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+
+// CartService.addCartList 의 단계별 JFR event.
+@Name(CartStageEvent.NAME)
+@Label("Cart Stage")
+@Category({"Kakao Shopping", "Cart"})
+public class CartStageEvent extends PipelineStageEvent {
+    public static final String NAME = "com.kakao.shopping.CartStage";
+
+    public static final String OPTION_LOAD = "option_load";
+    public static final String SUMMARY_UPDATE = "summary_update";
+    public static final String CART_UPSERT = "cart_upsert";
+
+    public static CartStageEvent start() {
+        CartStageEvent event = new CartStageEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String stage, Long userId, List<Long> optionIds, long rowsUpdated) {
+        if (finish()) {
+            commit(stage, userId, optionIds.size(), optionIds.stream(), rowsUpdated);
+        }
+    }
+}
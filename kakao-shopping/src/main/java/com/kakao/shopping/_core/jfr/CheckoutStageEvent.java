@@ -0,0 +1,29 @@
+package com.kakao.shopping._core.jfr;
+
+import com.kakao.shopping._core.metrics.CheckoutMetrics;
+import com.kakao.shopping.domain.Cart;
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+
+// OrderService.save 의 단계별 JFR event. 단계 이름은 checkout.stage timer 의 stage tag 와 같다.
+@Name(CheckoutStageEvent.NAME)
+@Label("Checkout Stage")
+@Category({"Kakao Shopping", "Checkout"})
+public class CheckoutStageEvent extends PipelineStageEvent {
+    public static final String NAME = "com.kakao.shopping.CheckoutStage";
+
+    public static CheckoutStageEvent start() {
+        CheckoutStageEvent event = new CheckoutStageEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(CheckoutMetrics.Stage stage, Long userId, List<Cart> carts, long rowsUpdated) {
+        if (finish()) {
+            commit(stage.tag(), userId, carts.size(), carts.stream().map(cart -> cart.getProductOption().getId()), rowsUpdated);
+        }
+    }
+}
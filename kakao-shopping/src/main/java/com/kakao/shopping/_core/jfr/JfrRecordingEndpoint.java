@@ -0,0 +1,154 @@
+package com.kakao.shopping._core.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+요청 시 JFR recording 을 시작하고 내려받는 actuator endpoint. (/actuator/jfr)
+recording 은 한 번에 하나만 유지하며, max-duration 이 지나면 스스로 멈추고 max-size 를 넘으면 오래된 데이터부터 버린다.
+내려받을 때는 recording 을 임시 파일로 dump 한 뒤 메모리에 올리지 않고 파일에서 바로 응답하며, 응답을 다 보내면 파일을 지운다.
+ */
+@WebEndpoint(id = "jfr")
+@Component
+public class JfrRecordingEndpoint {
+    private static final String RECORDING_NAME = "kakao-shopping";
+
+    private final String settings;
+    private final Duration maxDuration;
+    private final long maxSize;
+    // 요청을 처리하는 virtual thread 가 dump 파일 I/O 동안 carrier thread 에 고정되지 않도록 monitor 대신 사용한다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+
+    public JfrRecordingEndpoint(
+            @Value("${jfr.recording.settings:default}") String settings,
+            @Value("${jfr.recording.max-duration-seconds:300}") long maxDurationSeconds,
+            @Value("${jfr.recording.max-size-bytes:52428800}") long maxSize
+    ) {
+        this.settings = settings;
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSize = maxSize;
+    }
+
+    // 진행 중인 recording 을 닫고 새로 시작한다. durationSeconds 는 max-duration 을 넘을 수 없다.
+    @WriteOperation
+    public Map<String, Object> start(@Nullable Long durationSeconds) throws IOException, ParseException {
+        lock.lock();
+        try {
+            close();
+
+            Duration duration = durationSeconds == null || durationSeconds <= 0
+                    ? maxDuration
+                    : Duration.ofSeconds(Math.min(durationSeconds, maxDuration.toSeconds()));
+            recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName(RECORDING_NAME);
+            recording.setDuration(duration);
+            recording.setMaxSize(maxSize);
+            recording.setToDisk(true);
+            recording.enable(CheckoutStageEvent.NAME);
+            recording.enable(CartStageEvent.NAME);
+            recording.start();
+            return status();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        lock.lock();
+        try {
+            if (recording == null || recording.getState() == RecordingState.CLOSED) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            try {
+                recording.dump(file);
+            }
+            catch (IOException | RuntimeException exception) {
+                Files.deleteIfExists(file);
+                throw exception;
+            }
+            return new WebEndpointResponse<>(new TemporaryFileResource(file));
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @DeleteOperation
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            if (recording != null) {
+                recording.close();
+                recording = null;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private Map<String, Object> status() {
+        return Map.of(
+                "name", recording.getName(),
+                "state", recording.getState().name(),
+                "duration", recording.getDuration().toSeconds(),
+                "maxSize", recording.getMaxSize()
+        );
+    }
+
+    /*
+    응답을 보낸 뒤 스트림이 닫히면 임시 파일을 지운다.
+    응답을 보내기 전에 연결이 끊겨 스트림이 열리지 않은 파일은 JVM 종료 시 지운다.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+        TemporaryFileResource(Path file) {
+            super(file);
+            file.toFile().deleteOnExit();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    }
+                    finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
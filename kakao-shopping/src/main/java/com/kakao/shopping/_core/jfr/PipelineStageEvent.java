@@ -0,0 +1,49 @@
+package com.kakao.shopping._core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+장바구니, 주문 처리 단계의 JFR event 공통 필드.
+기록 중이 아니면 end() 와 shouldCommit() 만 호출되고, 옵션 id 문자열은 만들지 않는다.
+ */
+@Category("Kakao Shopping")
+@StackTrace(false)
+abstract class PipelineStageEvent extends Event {
+    @Label("Stage")
+    String stage;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Line Count")
+    int lineCount;
+
+    @Label("Option Ids")
+    @Description("단계에서 다룬 옵션 id 목록")
+    String optionIds;
+
+    @Label("Rows Updated")
+    long rowsUpdated;
+
+    // 기록 중이 아니면 false 를 반환하며, 이 경우 필드를 채우지 않는다.
+    boolean finish() {
+        end();
+        return shouldCommit();
+    }
+
+    void commit(String stage, long userId, int lineCount, Stream<Long> optionIds, long rowsUpdated) {
+        this.stage = stage;
+        this.userId = userId;
+        this.lineCount = lineCount;
+        this.optionIds = optionIds.map(String::valueOf).collect(Collectors.joining(","));
+        this.rowsUpdated = rowsUpdated;
+        commit();
+    }
+}
@@ -0,0 +1,50 @@
+package com.kakao.shopping._core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+주문 처리 시간을 단계별 checkout.stage timer 로 나누어 기록한다.
+주문이 없어도 모든 단계가 노출되도록 timer 를 미리 등록한다.
+ */
+@Component
+public class CheckoutMetrics {
+    public static final String METRIC_NAME = "checkout.stage";
+
+    public enum Stage {
+        CART_LOAD,
+        STOCK_CHECK,
+        STOCK_UPDATE,
+        CART_CLEAR,
+        ORDER_INSERT;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+    public CheckoutMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder(METRIC_NAME)
+                    .description("주문 단계별 처리 시간")
+                    .tag("stage", stage.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T record(Stage stage, Supplier<T> supplier) {
+        return timers.get(stage).record(supplier);
+    }
+
+    public void record(Stage stage, Runnable runnable) {
+        timers.get(stage).record(runnable);
+    }
+}
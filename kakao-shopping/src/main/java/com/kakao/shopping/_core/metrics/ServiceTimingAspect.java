@@ -0,0 +1,55 @@
+package com.kakao.shopping._core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+/*
+주요 서비스의 public 메서드 실행 시간을 service.method timer 로 기록한다.
+histogram bucket 은 management.metrics.distribution.slo.service.method 설정을 따른다.
+ */
+@RequiredArgsConstructor
+@Aspect
+@Component
+public class ServiceTimingAspect {
+    public static final String METRIC_NAME = "service.method";
+
+    private final MeterRegistry meterRegistry;
+
+    @Pointcut("within(com.kakao.shopping.service.CartService)"
+            + " || within(com.kakao.shopping.service.OrderService)"
+            + " || within(com.kakao.shopping.service.ProductService)"
+            + " || within(com.kakao.shopping.service.UserAccountService)")
+    public void timedService() {
+    }
+
+    @Pointcut("execution(public * *(..))")
+    public void publicMethod() {
+    }
+
+    @Around("timedService() && publicMethod()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        }
+        catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        }
+        finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("서비스 메서드 실행 시간")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.kakao.shopping._core.pricing;
+
+import java.util.Comparator;
+import java.util.List;
+
+/*
+주문 금액 구간별 정액 할인.
+조건을 만족하는 가장 높은 구간의 할인 금액을 줄 금액 비율대로 나누어 반영하고, 나머지는 마지막 줄에 반영한다.
+ */
+public final class CouponStage implements PricingStage {
+    public record Tier(
+            long minimumAmount,
+            long discountAmount
+    ) {
+    }
+
+    private final long[] minimumAmounts;
+    private final long[] discountAmounts;
+
+    public CouponStage(List<Tier> tiers) {
+        List<Tier> sorted = tiers.stream().sorted(Comparator.comparingLong(Tier::minimumAmount)).toList();
+        this.minimumAmounts = sorted.stream().mapToLong(Tier::minimumAmount).toArray();
+        this.discountAmounts = sorted.stream().mapToLong(Tier::discountAmount).toArray();
+    }
+
+    @Override
+    public void apply(PricingLines lines) {
+        long subtotal = lines.subtotal();
+        long discount = 0L;
+        for (int i = 0; i < minimumAmounts.length && minimumAmounts[i] <= subtotal; i++) {
+            discount = discountAmounts[i];
+        }
+        discount = Math.min(discount, subtotal);
+        if (discount == 0L) {
+            return;
+        }
+
+        long remaining = discount;
+        int last = lines.size() - 1;
+        for (int i = 0; i < last; i++) {
+            long share = lines.amount(i) * discount / subtotal;
+            lines.setAmount(i, lines.amount(i) - share);
+            remaining -= share;
+        }
+        lines.setAmount(last, lines.amount(last) - remaining);
+    }
+}
@@ -0,0 +1,38 @@
+package com.kakao.shopping._core.pricing;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+옵션별 할인율(basis point, 1/10000)을 줄 금액에 적용한다.
+할인 규칙은 옵션 id 로 정렬된 배열로 한 번 변환해 두고, 줄마다 이진 탐색으로 찾는다.
+ */
+public final class OptionDiscountStage implements PricingStage {
+    private final long[] optionIds;
+    private final int[] basisPoints;
+
+    public OptionDiscountStage(Map<Long, Integer> discountsByOptionId) {
+        TreeMap<Long, Integer> sorted = new TreeMap<>(discountsByOptionId);
+        this.optionIds = new long[sorted.size()];
+        this.basisPoints = new int[sorted.size()];
+
+        int index = 0;
+        for (Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+            optionIds[index] = entry.getKey();
+            basisPoints[index] = entry.getValue();
+            index++;
+        }
+    }
+
+    @Override
+    public void apply(PricingLines lines) {
+        for (int i = 0; i < lines.size(); i++) {
+            int found = Arrays.binarySearch(optionIds, lines.optionId(i));
+            if (found >= 0) {
+                long amount = lines.amount(i);
+                lines.setAmount(i, amount - amount * basisPoints[found] / 10000);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.kakao.shopping._core.pricing;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+현재 정책으로 만든 파이프라인을 보관한다.
+요청마다 규칙을 해석하지 않도록, 프로모션이 바뀔 때 한 번 파이프라인을 만들어 교체한다.
+프로모션은 관리자 API(PUT /admin/promotion)로 바뀌며, 인스턴스 메모리에만 보관하므로 재시작하면 비워진다.
+ */
+@Component
+public class PriceEngine {
+    private volatile PricingPolicy policy;
+    private volatile PricingPipeline pipeline;
+
+    public PriceEngine() {
+        update(new PricingPolicy(Map.of(), List.of()));
+    }
+
+    public synchronized void updatePromotions(Map<Long, Integer> optionDiscounts, List<CouponStage.Tier> couponTiers) {
+        update(policy.withPromotions(optionDiscounts, couponTiers));
+    }
+
+    public long price(PricingLines lines) {
+        return pipeline.price(lines);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private void update(PricingPolicy policy) {
+        this.pipeline = PricingPipeline.compile(policy);
+        this.policy = policy;
+    }
+}
@@ -0,0 +1,80 @@
+package com.kakao.shopping._core.pricing;
+
+import java.util.Arrays;
+
+/*
+가격 계산에 사용하는 주문 줄 목록.
+줄마다 객체를 만들지 않도록 항목별 primitive 배열로 보관하며, clear() 후 재사용하면 배열을 다시 할당하지 않는다.
+amount 는 각 단계가 할인을 반영하며 갱신하는 줄 금액이다.
+ */
+public final class PricingLines {
+    private long[] optionIds;
+    private long[] unitPrices;
+    private long[] quantities;
+    private long[] amounts;
+    private int size;
+
+    public PricingLines(int capacity) {
+        this.optionIds = new long[capacity];
+        this.unitPrices = new long[capacity];
+        this.quantities = new long[capacity];
+        this.amounts = new long[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void add(long optionId, long unitPrice, long quantity) {
+        if (size == optionIds.length) {
+            grow();
+        }
+        optionIds[size] = optionId;
+        unitPrices[size] = unitPrice;
+        quantities[size] = quantity;
+        amounts[size] = unitPrice * quantity;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long optionId(int index) {
+        return optionIds[index];
+    }
+
+    public long unitPrice(int index) {
+        return unitPrices[index];
+    }
+
+    public long quantity(int index) {
+        return quantities[index];
+    }
+
+    public long amount(int index) {
+        return amounts[index];
+    }
+
+    public void setAmount(int index, long amount) {
+        amounts[index] = amount;
+    }
+
+    public long subtotal() {
+        long subtotal = 0L;
+        for (int i = 0; i < size; i++) {
+            subtotal += amounts[i];
+        }
+        return subtotal;
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private void grow() {
+        int capacity = Math.max(8, optionIds.length * 2);
+        optionIds = Arrays.copyOf(optionIds, capacity);
+        unitPrices = Arrays.copyOf(unitPrices, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+    }
+}
@@ -0,0 +1,35 @@
+package com.kakao.shopping._core.pricing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+가격 계산 단계를 순서대로 실행한다.
+할인 -> 쿠폰 순서이며, 규칙이 없는 단계는 만들지 않는다.
+ */
+public final class PricingPipeline {
+    private final PricingStage[] stages;
+
+    public PricingPipeline(PricingStage... stages) {
+        this.stages = stages.clone();
+    }
+
+    public static PricingPipeline compile(PricingPolicy policy) {
+        List<PricingStage> stages = new ArrayList<>();
+        if (!policy.optionDiscounts().isEmpty()) {
+            stages.add(new OptionDiscountStage(policy.optionDiscounts()));
+        }
+        if (!policy.couponTiers().isEmpty()) {
+            stages.add(new CouponStage(policy.couponTiers()));
+        }
+        return new PricingPipeline(stages.toArray(PricingStage[]::new));
+    }
+
+    // 줄 금액을 갱신하고 결제 금액을 반환한다.
+    public long price(PricingLines lines) {
+        for (PricingStage stage : stages) {
+            stage.apply(lines);
+        }
+        return lines.subtotal();
+    }
+}
@@ -0,0 +1,17 @@
+package com.kakao.shopping._core.pricing;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+가격 계산 규칙. 프로모션이 바뀔 때마다 새 정책으로 파이프라인을 다시 만든다.
+할인율은 basis point(1/10000) 단위이다.
+ */
+public record PricingPolicy(
+        Map<Long, Integer> optionDiscounts,
+        List<CouponStage.Tier> couponTiers
+) {
+    public PricingPolicy withPromotions(Map<Long, Integer> optionDiscounts, List<CouponStage.Tier> couponTiers) {
+        return new PricingPolicy(Map.copyOf(optionDiscounts), List.copyOf(couponTiers));
+    }
+}
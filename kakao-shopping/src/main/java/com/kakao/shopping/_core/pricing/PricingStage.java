@@ -0,0 +1,10 @@
+package com.kakao.shopping._core.pricing;
+
+/*
+가격 계산의 한 단계.
+규칙은 단계를 만들 때 미리 준비해 두고, apply 에서는 객체를 할당하지 않는다.
+ */
+@FunctionalInterface
+public interface PricingStage {
+    void apply(PricingLines lines);
+}
@@ -0,0 +1,45 @@
+package com.kakao.shopping._core.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/*
+현재 서버에서 해시 한 번이 목표 시간 안에 끝나는 가장 높은 BCrypt cost 를 찾는다.
+cost 가 1 오를 때마다 해시 시간은 두 배가 되므로, 다음 cost 의 예상 시간이 목표를 넘으면 멈춘다.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+    private static final int MAX_STRENGTH = 16;
+    private static final String SAMPLE_PASSWORD = "calibration1234!";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minStrength) {
+        int strength = minStrength;
+        long elapsedNanos = measure(strength);
+        while (strength < MAX_STRENGTH && elapsedNanos * 2 <= target.toNanos()) {
+            strength++;
+            elapsedNanos = measure(strength);
+        }
+
+        log.info("BCrypt strength {} selected ({} ms per hash, target {} ms)", strength, elapsedNanos / 1_000_000, target.toMillis());
+        return strength;
+    }
+
+    // JIT 의 영향을 줄이기 위해 한 번 실행한 뒤 두 번 중 짧은 시간을 사용한다.
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,109 @@
+package com.kakao.shopping._core.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.kakao.shopping.domain.UserAccount;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+검증이 끝난 토큰의 사용자 정보를 토큰의 해시 기준으로 보관한다.
+같은 토큰으로 들어오는 요청은 서명 검증과 디코딩을 다시 하지 않으며, 각 항목은 토큰의 exp 시점에 만료된다.
+캐시에는 변경할 수 없는 값(id, email, roles)만 두고, UserAccount 엔티티는 요청마다 새로 만든다.
+ */
+public class JwtAuthenticationCache {
+    private static final long MAXIMUM_SIZE = 100_000L;
+
+    private final Cache<String, VerifiedToken> tokens = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfter(new TokenExpiry())
+            .build();
+
+    /*
+    캐시된 사용자 정보로 요청마다 새 UserAccount 와 인증 객체를 만든다.
+    verifier 가 던진 예외는 그대로 전달되고, 검증에 실패한 토큰은 캐시되지 않는다.
+     */
+    public Authentication authenticate(String token, Function<String, DecodedJWT> verifier) {
+        String key = hash(token);
+        VerifiedToken verifiedToken = tokens.get(key, ignored -> VerifiedToken.of(verifier.apply(token)));
+
+        // 만료 직후 아직 정리되지 않은 항목이 조회될 수 있으므로 한 번 더 확인한다.
+        if (verifiedToken.expiresAt() <= System.currentTimeMillis()) {
+            tokens.invalidate(key);
+            verifiedToken = VerifiedToken.of(verifier.apply(token));
+        }
+
+        UserAccount user = UserAccount.builder()
+                .id(verifiedToken.userId())
+                .email(verifiedToken.email())
+                .roles(verifiedToken.roles())
+                .build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), verifiedToken.authorities());
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private record VerifiedToken(
+            Long userId,
+            String email,
+            String roles,
+            List<GrantedAuthority> authorities,
+            long expiresAt
+    ) {
+        static VerifiedToken of(DecodedJWT decodedJWT) {
+            String roles = decodedJWT.getClaim("role").asString();
+            List<GrantedAuthority> authorities = Arrays.stream(roles.split(","))
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                    .toList();
+            return new VerifiedToken(
+                    decodedJWT.getClaim("id").asLong(),
+                    decodedJWT.getSubject(),
+                    roles,
+                    authorities,
+                    decodedJWT.getExpiresAt().getTime()
+            );
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Math.max(value.expiresAt() - System.currentTimeMillis(), 0L);
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,10 +2,7 @@ package com.kakao.shopping._core.security;
 
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
-import com.auth0.jwt.interfaces.DecodedJWT;
-import com.kakao.shopping.domain.UserAccount;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
@@ -18,6 +15,8 @@ import java.io.IOException;
 import java.util.Objects;
 
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
+    private final JwtAuthenticationCache authenticationCache = new JwtAuthenticationCache();
+
     public JwtAuthenticationFilter(AuthenticationManager authenticationManager) {
         super(authenticationManager);
     }
@@ -32,19 +31,8 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         }
 
         try {
-            DecodedJWT decodedJWT = JwtTokenProvider.verify(token);
-            Long userId = decodedJWT.getClaim("id").asLong();
-            String roles = decodedJWT.getClaim("role").asString();
-            logger.debug("request user id: " + userId);
-
-            UserAccount user = UserAccount.builder().id(userId).roles(roles).build();
-            CustomUserDetails userDetails = new CustomUserDetails(user);
-            Authentication authenticationManager = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    userDetails.getPassword(),
-                    userDetails.getAuthorities()
-            );
-            SecurityContextHolder.getContext().setAuthentication(authenticationManager);
+            Authentication authentication = authenticate(token);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
             logger.debug("인증 객체 생성");
         }
         catch (SignatureVerificationException exception) {
@@ -57,4 +45,9 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
             chain.doFilter(request, response);
         }
     }
+
+    // 서명 검증과 디코딩은 처음 보는 토큰에 대해서만 수행된다.
+    Authentication authenticate(String token) {
+        return authenticationCache.authenticate(token, JwtTokenProvider::verify);
+    }
 }
@@ -5,6 +5,7 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.kakao.shopping.domain.UserAccount;
 import org.springframework.stereotype.Component;
 
@@ -17,13 +18,17 @@ public class JwtTokenProvider {
     public static final String PREFIX = "Bearer ";
     public static final String SECRET = "MySecretKey";
 
+    // Algorithm 과 JWTVerifier 는 thread-safe 하므로 요청마다 새로 만들지 않는다.
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512(SECRET);
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
     public static String create(UserAccount userAccount) {
         String token = JWT.create()
                 .withSubject(userAccount.getEmail())
                 .withExpiresAt(new Date(System.currentTimeMillis() + EXP))
                 .withClaim("id", userAccount.getId())
                 .withClaim("role", userAccount.getRoles())
-                .sign(Algorithm.HMAC512(SECRET));
+                .sign(ALGORITHM);
 
         return PREFIX + token;
     }
@@ -31,7 +36,6 @@ public class JwtTokenProvider {
     public static DecodedJWT verify(String token) throws SignatureVerificationException, TokenExpiredException {
         token = token.replace(PREFIX, "");
 
-        return JWT.require(Algorithm.HMAC512(SECRET))
-                .build().verify(token);
+        return VERIFIER.verify(token);
     }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kakao.shopping._core.errors.exception.CustomException;
 import com.kakao.shopping._core.errors.exception.PermissionDeniedException;
 import com.kakao.shopping._core.errors.exception.UnauthorizedRequestException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,7 +14,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -22,16 +24,24 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     /*
     PasswordEncoder는 비밀번호를 단방향으로 함호화하는 기능을 포함하는 인터페이스 이다.
+    BCrypt cost 는 서버 시작 시 해시 한 번이 target-ms 안에 끝나도록 측정하여 정한다.
+    저장된 해시에는 cost 가 포함되어 있으므로 cost 가 바뀌어도 기존 비밀번호는 그대로 검증된다.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.hasher.target-ms:100}") long targetMillis,
+            @Value("${password.hasher.min-strength:10}") int minStrength
+    ) {
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofMillis(targetMillis), minStrength);
+        return new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
     }
 
     @Bean
@@ -67,8 +77,9 @@ public class SecurityConfig {
                 // 인증 요청 URL 별로 인증 및 ROLE 설정을 한다.
                 .and()
                 .authorizeRequests()
-                .mvcMatchers("/cart/**", "/option/**", "/order/**", "/user/**").authenticated()
+                .mvcMatchers("/cart/**", "/option/**", "/order/**", "/user/**", "/product/import").authenticated()
                 .mvcMatchers("/admin/**").hasRole("ADMIN")
+                .antMatchers("/actuator/metrics/**", "/actuator/prometheus", "/actuator/jfr/**").hasRole("ADMIN")
                 .anyRequest().permitAll()
 
                 .and()
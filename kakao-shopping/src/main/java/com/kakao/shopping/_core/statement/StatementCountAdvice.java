@@ -0,0 +1,33 @@
+package com.kakao.shopping._core.statement;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 응답 본문을 쓰기 직전까지 실행된 statement 수를 header 로 알려준다.
+@ControllerAdvice
+public class StatementCountAdvice implements ResponseBodyAdvice<Object> {
+    public static final String HEADER = "X-Statement-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        response.getHeaders().set(HEADER, String.valueOf(StatementCounter.current()));
+        return body;
+    }
+}
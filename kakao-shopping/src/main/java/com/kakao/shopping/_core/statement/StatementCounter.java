@@ -0,0 +1,34 @@
+package com.kakao.shopping._core.statement;
+
+/*
+현재 스레드에서 실행된 JDBC statement 수를 센다.
+요청이나 테스트 단위로 start() 와 stop() 사이에서만 세며, 시작하지 않은 스레드의 statement 는 무시한다.
+ */
+public final class StatementCounter {
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    public static long current() {
+        long[] count = COUNT.get();
+        return count == null ? 0L : count[0];
+    }
+
+    public static long stop() {
+        long count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    static void increment() {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
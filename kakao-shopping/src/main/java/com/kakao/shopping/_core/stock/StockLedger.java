@@ -0,0 +1,282 @@
+package com.kakao.shopping._core.stock;
+
+import com.kakao.shopping._core.errors.exception.OutOfStockException;
+import com.kakao.shopping.dto.product.request.StockCheckRequest;
+import com.kakao.shopping.repository.OptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/*
+주문이 몰리는 옵션의 재고를 메모리에서 관리하는 재고 원장.
+일정 시간 동안 주문 요청이 hot-threshold 이상 들어온 옵션은 DB 재고를 읽어 메모리 카운터로 승격되고,
+이후 해당 옵션의 예약/취소는 DB 를 거치지 않는다. 확정된 판매 수량은 flush 주기마다 모아서 DB 에 반영한다.
+승격되지 않은 옵션은 기존처럼 DB 의 조건부 UPDATE 로 차감된다.
+ */
+@Component
+public class StockLedger {
+    private static final int LOCK_COUNT = 64;
+
+    private final OptionRepository optionRepository;
+    private final boolean enabled;
+    private final long hotThreshold;
+    private final int stripeCount;
+    private final StockReservationLog reservationLog;
+
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendings = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> demands = new ConcurrentHashMap<>();
+    private final Set<Long> promotions = ConcurrentHashMap.newKeySet();
+    private final ReentrantReadWriteLock[] locks = new ReentrantReadWriteLock[LOCK_COUNT];
+    private final ExecutorService promotionExecutor = Executors.newSingleThreadExecutor();
+    // flush 와 판매자 재고 수정은 JDBC 를 기다리므로 virtual thread 를 고정하는 monitor 대신 ReentrantLock 으로 직렬화한다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public StockLedger(
+            OptionRepository optionRepository,
+            @Value("${stock.ledger.enabled:false}") boolean enabled,
+            @Value("${stock.ledger.hot-threshold:50}") long hotThreshold,
+            @Value("${stock.ledger.stripes:16}") int stripeCount,
+            @Value("${stock.ledger.log-path:./stock-ledger.log}") String logPath
+    ) {
+        this.optionRepository = optionRepository;
+        this.enabled = enabled;
+        this.hotThreshold = hotThreshold;
+        this.stripeCount = stripeCount;
+        this.reservationLog = new StockReservationLog(Path.of(logPath));
+        for (int i = 0; i < LOCK_COUNT; i++) {
+            locks[i] = new ReentrantReadWriteLock(true);
+        }
+    }
+
+    // 이전 실행에서 DB 에 반영되지 못한 예약을 적용한 뒤, 당시 hot 옵션들의 카운터를 DB 기준으로 다시 만든다.
+    @PostConstruct
+    public void recover() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, Long> unflushed = reservationLog.readUnflushed();
+        Map<Long, Long> quantities = new HashMap<>();
+        unflushed.forEach((optionId, quantity) -> {
+            if (quantity != 0) {
+                quantities.put(optionId, quantity);
+            }
+        });
+
+        optionRepository.subtractStockAll(quantities);
+        reservationLog.truncate();
+        unflushed.keySet().forEach(this::promote);
+    }
+
+    public boolean isHot(Long optionId) {
+        return counters.containsKey(optionId);
+    }
+
+    /*
+    hot 옵션의 주문 수량을 메모리에서 예약하고, DB 에서 차감해야 하는 나머지 요청을 반환한다.
+    트랜잭션이 롤백되면 예약한 수량은 다시 카운터로 돌아간다.
+     */
+    public List<StockCheckRequest> reserveAll(List<StockCheckRequest> requests) {
+        if (!enabled) {
+            return requests;
+        }
+
+        ReservationSynchronization synchronization = new ReservationSynchronization();
+        TransactionSynchronizationManager.registerSynchronization(synchronization);
+        // 승격 중인 옵션이 DB 와 메모리에서 동시에 차감되지 않도록 트랜잭션이 끝날 때까지 lock 을 잡는다.
+        synchronization.lockAll(requests);
+
+        List<StockCheckRequest> databaseRequests = new ArrayList<>();
+        for (StockCheckRequest request : requests) {
+            recordDemand(request.optionId());
+
+            StripedStockCounter counter = counters.get(request.optionId());
+            if (counter == null) {
+                databaseRequests.add(request);
+                continue;
+            }
+
+            if (!counter.tryReserve(request.quantity())) {
+                throw new OutOfStockException("재고가 부족합니다.");
+            }
+            reservationLog.reserve(request.optionId(), request.quantity());
+            synchronization.reserved(request);
+        }
+        return databaseRequests;
+    }
+
+    /*
+    판매자가 재고를 직접 수정하면 아직 반영되지 않은 판매 수량은 버리고 카운터를 새 재고로 맞춘다.
+    예약한 트랜잭션이 열려 있는 동안 카운터를 바꾸면 이후의 롤백이나 커밋이 새 재고에 더해지므로, write lock 으로 모두 끝나기를 기다린다.
+     */
+    public <T> T updateStock(Long optionId, Long stock, Supplier<T> databaseUpdate) {
+        if (!enabled) {
+            return databaseUpdate.get();
+        }
+
+        ReentrantReadWriteLock.WriteLock lock = lockOf(optionId).writeLock();
+        lock.lock();
+        flushLock.lock();
+        try {
+            T result = databaseUpdate.get();
+            StripedStockCounter counter = counters.get(optionId);
+            if (counter != null) {
+                pendings.get(optionId).reset();
+                counter.reset(stock);
+                reservationLog.reset(optionId);
+            }
+            return result;
+        }
+        finally {
+            flushLock.unlock();
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.ledger.flush-interval-ms:500}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            Map<Long, Long> quantities = new HashMap<>();
+            pendings.forEach((optionId, pending) -> {
+                long quantity = pending.sumThenReset();
+                if (quantity != 0) {
+                    quantities.put(optionId, quantity);
+                }
+            });
+
+            if (quantities.isEmpty()) {
+                return;
+            }
+
+            try {
+                optionRepository.subtractStockAll(quantities);
+            }
+            catch (RuntimeException exception) {
+                quantities.forEach((optionId, quantity) -> pendings.get(optionId).add(quantity));
+                throw exception;
+            }
+            quantities.forEach(reservationLog::flushed);
+        }
+        finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${stock.ledger.hot-window-ms:1000}")
+    public void resetDemands() {
+        demands.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        promotionExecutor.shutdownNow();
+        if (enabled) {
+            flush();
+            reservationLog.close();
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private void recordDemand(Long optionId) {
+        if (counters.containsKey(optionId)) {
+            return;
+        }
+
+        LongAdder demand = demands.computeIfAbsent(optionId, id -> new LongAdder());
+        demand.increment();
+        if (demand.sum() >= hotThreshold && promotions.add(optionId)) {
+            promotionExecutor.execute(() -> promote(optionId));
+        }
+    }
+
+    // DB 경로로 차감 중인 트랜잭션이 모두 끝난 뒤의 재고로 카운터를 만든다.
+    private void promote(Long optionId) {
+        ReentrantReadWriteLock.WriteLock lock = lockOf(optionId).writeLock();
+        lock.lock();
+        try {
+            if (counters.containsKey(optionId)) {
+                return;
+            }
+
+            optionRepository.findStockById(optionId).ifPresent(stock -> {
+                pendings.put(optionId, new LongAdder());
+                counters.put(optionId, new StripedStockCounter(stock, stripeCount));
+            });
+        }
+        finally {
+            lock.unlock();
+            promotions.remove(optionId);
+        }
+    }
+
+    private ReentrantReadWriteLock lockOf(Long optionId) {
+        return locks[lockIndexOf(optionId)];
+    }
+
+    private static int lockIndexOf(Long optionId) {
+        return Long.hashCode(optionId) & (LOCK_COUNT - 1);
+    }
+
+    private class ReservationSynchronization implements TransactionSynchronization {
+        private final List<StockCheckRequest> reservations = new ArrayList<>();
+        private final List<ReentrantReadWriteLock.ReadLock> heldLocks = new ArrayList<>();
+
+        /*
+        옵션 id 순서와 lock 순서는 다르므로, 요청에 포함된 lock 을 index 오름차순으로 한 번씩 잡는다.
+        공정한 lock 은 기다리는 writer 뒤에 reader 를 세우므로, 두 주문이 서로 다른 순서로 잡으면
+        각 lock 을 기다리는 updateStock, promote 와 함께 deadlock 이 된다.
+         */
+        void lockAll(List<StockCheckRequest> requests) {
+            SortedSet<Integer> indexes = new TreeSet<>();
+            requests.forEach(request -> indexes.add(lockIndexOf(request.optionId())));
+            for (int index : indexes) {
+                ReentrantReadWriteLock.ReadLock lock = locks[index].readLock();
+                lock.lock();
+                heldLocks.add(lock);
+            }
+        }
+
+        void reserved(StockCheckRequest request) {
+            reservations.add(request);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            try {
+                reservations.forEach(request -> {
+                    if (status == STATUS_COMMITTED) {
+                        pendings.get(request.optionId()).add(request.quantity());
+                        return;
+                    }
+                    counters.get(request.optionId()).release(request.quantity());
+                    reservationLog.cancel(request.optionId(), request.quantity());
+                });
+            }
+            finally {
+                heldLocks.forEach(ReentrantReadWriteLock.ReadLock::unlock);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.kakao.shopping._core.stock;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+메모리 재고의 변경 내역을 기록하는 append-only 로그.
+R : 예약, C : 예약 취소, F : DB 반영 완료, S : 판매자가 재고를 덮어써서 미반영 내역이 무효화됨
+서버가 비정상 종료되면 마지막 반영 이후의 예약 내역을 DB 에 다시 적용하여 재고를 복구한다.
+DB 반영과 F 기록 사이에 종료되면 같은 수량이 두 번 차감될 수 있으나, 이는 초과 판매가 아닌 판매 누락 방향의 오차이다.
+
+기록은 group commit 으로 쓴다. 각 요청은 짧은 buffer lock 안에서 기록을 모아 두고 번호를 받은 뒤,
+파일 lock 을 먼저 잡은 요청이 그때까지 모인 기록을 한 번에 write, flush 한다.
+뒤따르는 요청은 자신의 기록이 이미 flush 되었으면 바로 돌아가므로, 동시에 몰린 예약은 flush 한 번을 나누어 쓴다.
+ */
+public class StockReservationLog {
+    private final Path path;
+    // 요청을 처리하는 virtual thread 가 파일 I/O 동안 carrier thread 에 고정되지 않도록 monitor 대신 사용한다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private StringBuilder buffer = new StringBuilder();
+    // buffer 에 추가된 마지막 기록 번호와 파일에 flush 된 마지막 기록 번호
+    private long appendedSequence;
+    private long flushedSequence;
+    private BufferedWriter writer;
+
+    public StockReservationLog(Path path) {
+        this.path = path;
+    }
+
+    public void reserve(Long optionId, long quantity) {
+        append('R', optionId, quantity);
+    }
+
+    public void cancel(Long optionId, long quantity) {
+        append('C', optionId, quantity);
+    }
+
+    public void flushed(Long optionId, long quantity) {
+        append('F', optionId, quantity);
+    }
+
+    public void reset(Long optionId) {
+        append('S', optionId, 0);
+    }
+
+    // 옵션별로 아직 DB 에 반영되지 않은 예약 수량
+    public Map<Long, Long> readUnflushed() {
+        Map<Long, Long> unflushed = new HashMap<>();
+        lock.lock();
+        try {
+            if (!Files.exists(path)) {
+                return unflushed;
+            }
+
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] tokens = line.split(" ");
+                if (tokens.length != 3) {
+                    continue;
+                }
+
+                Long optionId = Long.parseLong(tokens[1]);
+                long quantity = Long.parseLong(tokens[2]);
+                switch (tokens[0]) {
+                    case "R" -> unflushed.merge(optionId, quantity, Long::sum);
+                    case "C", "F" -> unflushed.merge(optionId, -quantity, Long::sum);
+                    case "S" -> unflushed.put(optionId, 0L);
+                    default -> {
+                    }
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        finally {
+            lock.unlock();
+        }
+        return unflushed;
+    }
+
+    public void truncate() {
+        lock.lock();
+        try {
+            close();
+            Files.deleteIfExists(path);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // 프로세스가 죽더라도 기록이 남도록 자신의 기록이 OS 버퍼로 flush 된 뒤에 돌아간다.
+    private void append(char type, Long optionId, long quantity) {
+        long sequence;
+        bufferLock.lock();
+        try {
+            buffer.append(type).append(' ').append(optionId).append(' ').append(quantity).append(System.lineSeparator());
+            sequence = ++appendedSequence;
+        }
+        finally {
+            bufferLock.unlock();
+        }
+
+        lock.lock();
+        try {
+            if (flushedSequence < sequence) {
+                writeBuffer();
+            }
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출한다.
+    private void writeBuffer() throws IOException {
+        String records;
+        long last;
+        bufferLock.lock();
+        try {
+            records = buffer.toString();
+            last = appendedSequence;
+            buffer = new StringBuilder(records.length());
+        }
+        finally {
+            bufferLock.unlock();
+        }
+
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(
+                        path,
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND
+                );
+            }
+            writer.write(records);
+            writer.flush();
+        }
+        catch (IOException exception) {
+            // 쓰지 못한 기록은 다음 기록보다 앞에 다시 넣어 순서를 유지한다.
+            bufferLock.lock();
+            try {
+                buffer.insert(0, records);
+            }
+            finally {
+                bufferLock.unlock();
+            }
+            throw exception;
+        }
+        flushedSequence = last;
+    }
+}
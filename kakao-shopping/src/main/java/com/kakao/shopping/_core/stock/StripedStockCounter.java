@@ -0,0 +1,83 @@
+package com.kakao.shopping._core.stock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+하나의 옵션 재고를 여러 개의 stripe 로 나누어 보관하는 카운터.
+각 스레드는 임의의 stripe 에서 먼저 차감을 시도하므로 같은 옵션에 주문이 몰려도 CAS 경합이 분산된다.
+어떤 stripe 도 0 미만으로 내려가지 않으므로 전체 재고를 초과하여 예약되지 않는다.
+ */
+public class StripedStockCounter {
+    private final AtomicLongArray stripes;
+
+    public StripedStockCounter(long stock, int stripeCount) {
+        this.stripes = new AtomicLongArray(stripeCount);
+        reset(stock);
+    }
+
+    public boolean tryReserve(long quantity) {
+        int size = stripes.length();
+        int home = ThreadLocalRandom.current().nextInt(size);
+        for (int i = 0; i < size; i++) {
+            if (tryTake((home + i) % size, quantity)) {
+                return true;
+            }
+        }
+        return tryGather(quantity);
+    }
+
+    public void release(long quantity) {
+        stripes.addAndGet(ThreadLocalRandom.current().nextInt(stripes.length()), quantity);
+    }
+
+    public synchronized void reset(long stock) {
+        int size = stripes.length();
+        for (int i = 0; i < size; i++) {
+            stripes.set(i, stock / size + (i < stock % size ? 1 : 0));
+        }
+    }
+
+    public long available() {
+        long sum = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            sum += stripes.get(i);
+        }
+        return sum;
+    }
+
+    private boolean tryTake(int index, long quantity) {
+        long current;
+        do {
+            current = stripes.get(index);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!stripes.compareAndSet(index, current, current - quantity));
+        return true;
+    }
+
+    // 한 stripe 에 남은 수량으로 부족하면 여러 stripe 에서 나누어 가져오고, 모자라면 가져온 만큼 되돌린다.
+    private synchronized boolean tryGather(long quantity) {
+        long[] taken = new long[stripes.length()];
+        long remaining = quantity;
+        for (int i = 0; i < stripes.length() && remaining > 0; i++) {
+            long current;
+            long amount;
+            do {
+                current = stripes.get(i);
+                amount = Math.min(current, remaining);
+            } while (amount > 0 && !stripes.compareAndSet(i, current, current - amount));
+            taken[i] = Math.max(amount, 0);
+            remaining -= taken[i];
+        }
+
+        if (remaining > 0) {
+            for (int i = 0; i < taken.length; i++) {
+                stripes.addAndGet(i, taken[i]);
+            }
+            return false;
+        }
+        return true;
+    }
+}
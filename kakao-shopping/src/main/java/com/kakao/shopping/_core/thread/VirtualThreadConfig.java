@@ -0,0 +1,30 @@
+package com.kakao.shopping._core.thread;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/*
+virtual profile 에서는 Tomcat 의 요청 처리와 Spring 의 비동기 작업을 virtual thread 에서 실행한다.
+요청 하나가 JDBC 에서 기다리는 동안 carrier thread 를 반납하므로, 동시 요청 수가 스레드 풀 크기에 묶이지 않는다.
+대신 DB 동시 접근은 HikariCP 의 pool 크기로 제한된다. (application-virtual.yaml)
+ */
+@Profile("virtual")
+@Configuration
+public class VirtualThreadConfig {
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
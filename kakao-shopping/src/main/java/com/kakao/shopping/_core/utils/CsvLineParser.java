@@ -0,0 +1,47 @@
+package com.kakao.shopping._core.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+CSV 한 줄을 필드 목록으로 나눈다.
+큰따옴표로 감싼 필드 안의 쉼표와 "" (이스케이프된 따옴표)를 처리하며, 필드 안의 줄바꿈은 지원하지 않는다.
+ */
+public class CsvLineParser {
+    private CsvLineParser() {
+    }
+
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                }
+                else if (c == '"') {
+                    quoted = false;
+                }
+                else {
+                    field.append(c);
+                }
+            }
+            else if (c == '"') {
+                quoted = true;
+            }
+            else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            }
+            else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kakao.shopping._core.utils;
+
+import com.kakao.shopping._core.errors.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+목록 조회의 다음 페이지 위치를 클라이언트가 해석하지 않는 문자열로 주고받기 위한 유틸.
+cursor 는 마지막으로 조회한 id 를 base64 로 감싼 값이며, 비어 있으면 첫 페이지를 의미한다.
+ */
+public class CursorUtils {
+    private static final String PREFIX = "id:";
+
+    private CursorUtils() {
+    }
+
+    public static String encode(Long id) {
+        byte[] bytes = (PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static Long decode(String cursor, Long defaultValue) {
+        if (cursor == null || cursor.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new BadRequestException("잘못된 cursor 입니다.");
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        }
+        catch (IllegalArgumentException exception) {
+            throw new BadRequestException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -1,5 +0,0 @@
-package com.kakao.shopping._core.utils.calculator;
-
-public interface PriceCalculator {
-    Long execute();
-}
@@ -1,13 +1,16 @@
 package com.kakao.shopping._core.utils;
 
 import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.domain.CartSummary;
 import com.kakao.shopping.domain.ProductOption;
 import com.kakao.shopping.domain.Product;
 import com.kakao.shopping.domain.UserAccount;
 import com.kakao.shopping.dto.user.UserRegisterRequest;
 import com.kakao.shopping.repository.CartRepository;
+import com.kakao.shopping.repository.CartSummaryRepository;
 import com.kakao.shopping.repository.OptionRepository;
 import com.kakao.shopping.repository.ProductRepository;
+import com.kakao.shopping.repository.UserAccountRepository;
 import com.kakao.shopping.service.UserAccountService;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
@@ -18,31 +21,47 @@ import java.time.LocalDate;
 import java.util.InvalidPropertiesFormatException;
 import java.util.List;
 
+/*
+로컬 실행과 테스트에 사용할 기본 데이터를 만든다.
+DB 는 재시작해도 유지되므로, 기본 사용자가 이미 있으면 다시 만들지 않는다.
+ */
+@Profile({"local", "test"})
 @Component
 public class initDataGenerator implements ApplicationRunner {
+    private static final String TEST_USER_EMAIL = "moon@naver.com";
+
     private final UserAccountService userAccountService;
+    private final UserAccountRepository userAccountRepository;
     private final ProductRepository productRepository;
     private final OptionRepository optionRepository;
     private final CartRepository cartRepository;
+    private final CartSummaryRepository cartSummaryRepository;
     List<Product> products;
     List<ProductOption> productOptions;
     UserAccount testUser;
 
     public initDataGenerator(
             UserAccountService userAccountService,
+            UserAccountRepository userAccountRepository,
             ProductRepository productRepository,
             OptionRepository optionRepository,
-            CartRepository cartRepository
+            CartRepository cartRepository,
+            CartSummaryRepository cartSummaryRepository
     ) {
         this.userAccountService = userAccountService;
+        this.userAccountRepository = userAccountRepository;
         this.productRepository = productRepository;
         this.optionRepository = optionRepository;
         this.cartRepository = cartRepository;
+        this.cartSummaryRepository = cartSummaryRepository;
     }
 
-    @Profile("local")
     @Override
     public void run(ApplicationArguments args) throws Exception {
+        if (userAccountRepository.findByEmail(TEST_USER_EMAIL).isPresent()) {
+            return;
+        }
+
         createUser();
         createProduct();
         createOption();
@@ -51,7 +70,7 @@ public class initDataGenerator implements ApplicationRunner {
 
     private void createUser() {
         UserRegisterRequest request = new UserRegisterRequest(
-                "moon", "moon@kakao.com", "qwer1234!", LocalDate.of(2000, 9, 15)
+                "moon", TEST_USER_EMAIL, "qwer1234!", LocalDate.of(2000, 9, 15)
         );
         testUser = userAccountService.register(request);
     }
@@ -133,12 +152,20 @@ public class initDataGenerator implements ApplicationRunner {
         );
     }
 
+    // 장바구니가 있는 사용자는 합계 행도 있어야 하므로 함께 만든다.
     private void createCart() {
-        cartRepository.saveAll(
+        List<Cart> carts = cartRepository.saveAll(
                 List.of(
                         Cart.builder().userAccount(testUser).productOption(this.productOptions.get(0)).quantity(5L).build(),
                         Cart.builder().userAccount(testUser).productOption(this.productOptions.get(1)).quantity(5L).build()
                 )
         );
+        cartSummaryRepository.save(
+                CartSummary.of(
+                        testUser.getId(),
+                        carts.stream().mapToLong(Cart::getPrice).sum(),
+                        carts.stream().mapToLong(Cart::getQuantity).sum()
+                )
+        );
     }
 }
@@ -3,6 +3,7 @@ package com.kakao.shopping.controller;
 import com.kakao.shopping._core.security.CustomUserDetails;
 import com.kakao.shopping._core.utils.ApiUtils;
 import com.kakao.shopping.dto.order.OrderDTO;
+import com.kakao.shopping.dto.order.OrderSliceDTO;
 import com.kakao.shopping.dto.order.request.OrderUpdateRequest;
 import com.kakao.shopping.service.OrderService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,15 @@ import javax.validation.constraints.Min;
 public class OrderController {
     private final OrderService orderService;
 
+    @GetMapping("/order")
+    public ResponseEntity<?> findAll(
+            @RequestParam(defaultValue = "") String cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        OrderSliceDTO orders = orderService.findOrders(userDetails.getUserAccount(), cursor, 10);
+        return ResponseEntity.ok().body(ApiUtils.success(orders));
+    }
+
     @GetMapping("/order/{id}")
     public ResponseEntity<?> findById(
             @PathVariable @Min(1) Long id,
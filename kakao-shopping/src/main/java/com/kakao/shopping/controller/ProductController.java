@@ -1,43 +1,66 @@
 package com.kakao.shopping.controller;
 
+import com.kakao.shopping._core.cache.CachedResponse;
 import com.kakao.shopping._core.security.CustomUserDetails;
 import com.kakao.shopping._core.utils.ApiUtils;
-import com.kakao.shopping.dto.product.ProductDTO;
 import com.kakao.shopping.dto.product.ProductListItemDTO;
+import com.kakao.shopping.dto.product.ProductSliceDTO;
 import com.kakao.shopping.dto.product.option.ProductOptionDTO;
 import com.kakao.shopping.dto.product.request.OptionStockUpdateRequest;
 import com.kakao.shopping.dto.product.request.OptionUpdateRequest;
 import com.kakao.shopping.dto.product.request.ProductUpdateRequest;
+import com.kakao.shopping.dto.product.response.ProductImportResponse;
+import com.kakao.shopping.service.ProductImportService;
 import com.kakao.shopping.service.ProductService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
-import java.util.List;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @RequiredArgsConstructor
 @RestController
 public class ProductController {
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
+    // If-None-Match 가 ETag 와 같으면 본문 없이 304 를 응답한다.
     @GetMapping("/product")
     public ResponseEntity<?> findAll(@RequestParam(defaultValue = "0") int page) {
-        PageRequest pageRequest = PageRequest.of(page, 9);
-        List<ProductListItemDTO> products = productService.findAllProducts(pageRequest);
+        CachedResponse response = productService.findAllProductsResponse(page);
+        return toResponseEntity(response);
+    }
+
+    @GetMapping(value = "/product", params = "cursor")
+    public ResponseEntity<?> findAllByCursor(@RequestParam String cursor) {
+        ProductSliceDTO products = productService.findProductsAfter(cursor, ProductService.PAGE_SIZE);
         return ResponseEntity.ok().body(ApiUtils.success(products));
     }
 
-//    @PostMapping("/product")
-//    public ResponseEntity<?> insertProduct()
+    @PostMapping(value = "/product/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public ResponseEntity<?> importProducts(
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) throws IOException {
+        ProductImportResponse response = productImportService.importProducts(
+                userDetails.getUserAccount(),
+                request.getInputStream(),
+                MediaType.parseMediaType(request.getContentType())
+        );
+        return ResponseEntity.ok().body(ApiUtils.success(response));
+    }
 
     @GetMapping("/product/{id}")
     public ResponseEntity<?> findById(@PathVariable @Min(1) Long id) {
-        ProductDTO product = productService.findProductById(id);
-        return ResponseEntity.ok(ApiUtils.success(product));
+        CachedResponse response = productService.findProductResponseById(id);
+        return toResponseEntity(response);
     }
 
     @PutMapping("/product/stock")
@@ -68,4 +91,14 @@ public class ProductController {
         ProductOptionDTO optionDTO = productService.updateOptionById(userDetails.getUserAccount(), id, request);
         return ResponseEntity.ok().body(ApiUtils.success(optionDTO));
     }
+
+    // ------------------------------------------------------------------------------------------
+
+    private static ResponseEntity<byte[]> toResponseEntity(CachedResponse response) {
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .cacheControl(CacheControl.noCache())
+                .eTag(response.eTag())
+                .body(response.body());
+    }
 }
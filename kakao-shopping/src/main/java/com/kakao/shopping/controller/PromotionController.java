@@ -0,0 +1,28 @@
+package com.kakao.shopping.controller;
+
+import com.kakao.shopping._core.pricing.PriceEngine;
+import com.kakao.shopping._core.utils.ApiUtils;
+import com.kakao.shopping.dto.promotion.request.PromotionUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+@RequiredArgsConstructor
+@RestController
+public class PromotionController {
+    private final PriceEngine priceEngine;
+
+    // 옵션 할인과 쿠폰 구간을 통째로 교체한다. 이후 주문부터 새 규칙으로 가격을 계산한다.
+    @PutMapping("/admin/promotion")
+    public ResponseEntity<?> updatePromotions(@Valid @RequestBody PromotionUpdateRequest request) {
+        priceEngine.updatePromotions(
+                request.optionDiscounts(),
+                request.couponTiers().stream().map(PromotionUpdateRequest.CouponTier::toTier).toList()
+        );
+        return ResponseEntity.ok().body(ApiUtils.success(null));
+    }
+}
@@ -29,6 +29,8 @@ import java.util.Objects;
                 }
         )
 })
+// 장바구니 추가는 native upsert 로 처리하므로 id 는 DB 에서 생성하고, 사용자별 옵션은 한 줄만 존재한다.
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cart_user_option", columnNames = {"user_account_id", "product_option_id"}))
 @Entity
 public class Cart {
     @Id
@@ -38,7 +40,7 @@ public class Cart {
     @ManyToOne(fetch = FetchType.LAZY)
     private UserAccount userAccount;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     private ProductOption productOption;
 
     @Column(nullable = false)
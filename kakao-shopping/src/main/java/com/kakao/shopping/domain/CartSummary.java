@@ -0,0 +1,41 @@
+package com.kakao.shopping.domain;
+
+import lombok.Getter;
+
+import javax.persistence.*;
+
+/*
+사용자별 장바구니 합계.
+장바구니가 바뀔 때마다 바뀐 만큼만 더하고 빼서, 조회 시 모든 장바구니를 다시 합산하지 않는다.
+ */
+@Getter
+@Entity
+public class CartSummary {
+    @Id
+    private Long userAccountId;
+
+    @Column(nullable = false)
+    private Long totalPrice;
+
+    // 담긴 상품 수량의 합
+    @Column(nullable = false)
+    private Long itemCount;
+
+    protected CartSummary() {
+    }
+
+    private CartSummary(Long userAccountId, Long totalPrice, Long itemCount) {
+        this.userAccountId = userAccountId;
+        this.totalPrice = totalPrice;
+        this.itemCount = itemCount;
+    }
+
+    public static CartSummary of(Long userAccountId, Long totalPrice, Long itemCount) {
+        return new CartSummary(userAccountId, totalPrice, itemCount);
+    }
+
+    public void add(long price, long quantity) {
+        this.totalPrice += price;
+        this.itemCount += quantity;
+    }
+}
@@ -18,9 +18,22 @@ public class OrderItem {
     @ManyToOne(fetch = FetchType.LAZY)
     private OrderDetail orderDetail;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     private ProductOption productOption;
 
+    // 주문 시점의 상품 정보. 이후 판매자가 상품을 수정해도 주문 내역은 바뀌지 않는다.
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private String optionName;
+
+    @Column(nullable = false)
+    private Long unitPrice;
+
     @Column(nullable = false)
     private Long quantity;
 
@@ -39,6 +52,10 @@ public class OrderItem {
     private OrderItem(OrderDetail orderDetail, ProductOption productOption, Long quantity, Long price) {
         this.orderDetail = orderDetail;
         this.productOption = productOption;
+        this.productId = productOption.getProduct().getId();
+        this.productName = productOption.getProduct().getName();
+        this.optionName = productOption.getName();
+        this.unitPrice = productOption.getPrice();
         this.quantity = quantity;
         this.price = price;
         this.createdAt = LocalDateTime.now();
@@ -59,10 +76,4 @@ public class OrderItem {
     public int hashCode() {
         return Objects.hash(id);
     }
-
-    public void update(Long quantity) {
-        this.quantity = quantity;
-        this.price = quantity * this.productOption.getPrice();
-        this.modifiedAt = LocalDateTime.now();
-    }
 }
@@ -2,6 +2,8 @@ package com.kakao.shopping.domain;
 
 import com.kakao.shopping.dto.product.request.ProductInsertRequest;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -16,10 +18,12 @@ import java.util.Objects;
         name = "ProductWithCreatedBy",
         attributeNodes = @NamedAttributeNode("createdBy")
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -3,6 +3,8 @@ package com.kakao.shopping.domain;
 import com.kakao.shopping.dto.product.option.request.OptionInsertRequest;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -22,10 +24,12 @@ import java.util.Objects;
                 }
         )
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class ProductOption {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_option_seq")
+    @SequenceGenerator(name = "product_option_seq", sequenceName = "product_option_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
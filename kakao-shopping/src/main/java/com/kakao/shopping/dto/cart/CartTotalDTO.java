@@ -0,0 +1,7 @@
+package com.kakao.shopping.dto.cart;
+
+public record CartTotalDTO(
+        Long totalPrice,
+        Long itemCount
+) {
+}
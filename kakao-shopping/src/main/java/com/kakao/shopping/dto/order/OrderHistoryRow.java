@@ -0,0 +1,12 @@
+package com.kakao.shopping.dto.order;
+
+// 주문 내역 조회 query 의 한 행 (주문 상품 하나)
+public record OrderHistoryRow(
+        Long orderId,
+        Long productId,
+        String productName,
+        String optionName,
+        Long quantity,
+        Long price
+) {
+}
@@ -0,0 +1,9 @@
+package com.kakao.shopping.dto.order;
+
+import java.util.List;
+
+public record OrderSliceDTO(
+        List<OrderDTO> orders,
+        String nextCursor
+) {
+}
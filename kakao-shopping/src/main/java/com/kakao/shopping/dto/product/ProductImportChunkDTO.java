@@ -0,0 +1,8 @@
+package com.kakao.shopping.dto.product;
+
+public record ProductImportChunkDTO(
+        int chunk,
+        int count,
+        long importedCount
+) {
+}
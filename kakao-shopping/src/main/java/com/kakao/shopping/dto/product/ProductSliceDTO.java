@@ -0,0 +1,9 @@
+package com.kakao.shopping.dto.product;
+
+import java.util.List;
+
+public record ProductSliceDTO(
+        List<ProductListItemDTO> products,
+        String nextCursor
+) {
+}
@@ -0,0 +1,7 @@
+package com.kakao.shopping.dto.product.option;
+
+public record OptionStockDTO(
+        Long id,
+        Long stock
+) {
+}
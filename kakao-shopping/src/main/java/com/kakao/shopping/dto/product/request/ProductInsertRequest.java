@@ -7,7 +7,9 @@ public record ProductInsertRequest(
         @NotNull(message = "상품명을 입력해주세요.")
         String name,
         String description,
+        @NotNull(message = "이미지를 입력해주세요.")
         String image,
+        @NotNull(message = "가격을 입력해주세요.")
         @Min(value = 0, message = "가격은 0 이상의 숫자만 가능합니다.") Long price
 ) {
 }
@@ -0,0 +1,11 @@
+package com.kakao.shopping.dto.product.response;
+
+import com.kakao.shopping.dto.product.ProductImportChunkDTO;
+
+import java.util.List;
+
+public record ProductImportResponse(
+        long importedCount,
+        List<ProductImportChunkDTO> chunks
+) {
+}
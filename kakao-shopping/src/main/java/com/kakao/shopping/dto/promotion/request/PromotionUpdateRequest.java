@@ -0,0 +1,28 @@
+package com.kakao.shopping.dto.promotion.request;
+
+import com.kakao.shopping._core.pricing.CouponStage;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Map;
+
+public record PromotionUpdateRequest(
+        @NotNull(message = "옵션 할인 목록을 입력해주세요.")
+        Map<@NotNull @Min(value = 1, message = "옵션 id 는 1 이상의 숫자만 가능합니다.") Long,
+                @NotNull @Min(value = 0, message = "할인율은 0 이상의 숫자만 가능합니다.")
+                @Max(value = 10000, message = "할인율은 10000 이하의 숫자만 가능합니다.") Integer> optionDiscounts,
+        @NotNull(message = "쿠폰 구간 목록을 입력해주세요.")
+        List<@NotNull @Valid CouponTier> couponTiers
+) {
+    public record CouponTier(
+            @NotNull @Min(value = 0, message = "최소 주문 금액은 0 이상의 숫자만 가능합니다.") Long minimumAmount,
+            @NotNull @Min(value = 0, message = "할인 금액은 0 이상의 숫자만 가능합니다.") Long discountAmount
+    ) {
+        public CouponStage.Tier toTier() {
+            return new CouponStage.Tier(minimumAmount, discountAmount);
+        }
+    }
+}
@@ -1,16 +1,40 @@
 package com.kakao.shopping.repository;
 
 import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.dto.cart.CartTotalDTO;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CartRepository extends JpaRepository<Cart, Long> {
+public interface CartRepository extends JpaRepository<Cart, Long>, CartRepositoryCustom {
+    // 트랜잭션 밖에서 호출되면 읽기 전용으로 replica 에서 읽으므로, 함께 읽은 옵션과 상품을 2차 캐시에 저장하지 않는다.
+    @QueryHints(@QueryHint(name = "javax.persistence.cache.storeMode", value = "BYPASS"))
     @EntityGraph("CartWithUserAccountAndOptionAndProduct")
     Optional<List<Cart>> findAllByUserAccountId(Long userId);
+
+    @EntityGraph("CartWithUserAccountAndOptionAndProduct")
+    List<Cart> findAllByIdInAndUserAccountId(List<Long> ids, Long userId);
+
+    @Query("select new com.kakao.shopping.dto.cart.CartTotalDTO(coalesce(sum(c.price), 0L), coalesce(sum(c.quantity), 0L)) from Cart c where c.userAccount.id = :userId")
+    CartTotalDTO sumByUserAccountId(@Param("userId") Long userId);
+
+    @Query("select new com.kakao.shopping.dto.cart.CartTotalDTO(coalesce(sum(c.price), 0L), coalesce(sum(c.quantity), 0L)) from Cart c where c.id in :ids and c.userAccount.id = :userId")
+    CartTotalDTO sumByIdInAndUserAccountId(@Param("ids") List<Long> ids, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from Cart c where c.userAccount.id = :userId")
+    int deleteAllByUserAccountId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from Cart c where c.id in :ids and c.userAccount.id = :userId")
+    int deleteAllByIdInAndUserAccountId(@Param("ids") List<Long> ids, @Param("userId") Long userId);
 }
@@ -0,0 +1,11 @@
+package com.kakao.shopping.repository;
+
+import com.kakao.shopping.domain.Cart;
+
+import java.util.List;
+
+public interface CartRepositoryCustom {
+    List<Cart> findAllForCheckout(Long userId);
+
+    int upsertAll(List<Cart> carts);
+}
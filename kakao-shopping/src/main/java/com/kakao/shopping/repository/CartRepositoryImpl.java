@@ -0,0 +1,91 @@
+package com.kakao.shopping.repository;
+
+import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.domain.ProductOption;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockMode;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CartRepositoryImpl implements CartRepositoryCustom {
+    private static final String FIND_FOR_CHECKOUT_JPQL
+            = "select c from Cart c where c.userAccount.id = :userId";
+    private static final String FIND_OPTIONS_JPQL
+            = "select o from ProductOption o join fetch o.product where o.id in :ids";
+    private static final String UPSERT_SQL
+            = "insert into cart (user_account_id, product_option_id, quantity, price) values ";
+    private static final String UPSERT_ON_DUPLICATE_SQL
+            = " on duplicate key update quantity = quantity + values(quantity), price = price + values(price)";
+    private static final int COLUMN_COUNT = 4;
+
+    private final EntityManager entityManager;
+
+    /*
+    주문할 장바구니 행만 join 없이 읽어 쓰기 lock 을 건다. 같은 사용자의 주문이 동시에 들어오면 뒤의 주문은 앞의 주문이 끝날 때까지 기다린다.
+    MySQL dialect 는 lock 대상 alias 를 무시하고 join 된 옵션, 상품 행까지 잠그므로, 옵션과 상품은 lock 없이 따로 읽는다.
+    따로 읽은 옵션은 영속성 컨텍스트에서 장바구니의 지연 로딩 대상과 같은 객체이므로 줄마다 다시 조회하지 않는다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Cart> findAllForCheckout(Long userId) {
+        List<Cart> carts = entityManager.createQuery(FIND_FOR_CHECKOUT_JPQL, Cart.class)
+                .setParameter("userId", userId)
+                .unwrap(Query.class)
+                .setLockMode("c", LockMode.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (carts.isEmpty()) {
+            return carts;
+        }
+
+        List<Long> optionIds = carts.stream().map(cart -> cart.getProductOption().getId()).distinct().toList();
+        entityManager.createQuery(FIND_OPTIONS_JPQL, ProductOption.class)
+                .setParameter("ids", optionIds)
+                .setHint(QueryHints.HINT_CACHEABLE, true)
+                .getResultList();
+        return carts;
+    }
+
+    /*
+    (사용자, 옵션) unique key 를 이용해 여러 줄을 multi-row INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 담는다.
+    이미 담긴 옵션은 DB 에서 수량과 금액을 더하므로, 동시에 담아도 수량이 유실되거나 줄이 중복되지 않는다.
+    carts 의 quantity, price 는 이번에 더할 값이며, 저장된 줄은 영속성 컨텍스트에 올라가지 않는다.
+     */
+    @Override
+    @Transactional
+    public int upsertAll(List<Cart> carts) {
+        if (carts.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(UPSERT_SQL);
+        for (int i = 0; i < carts.size(); i++) {
+            int offset = i * COLUMN_COUNT;
+            sql.append(i == 0 ? "(" : ", (");
+            for (int column = 1; column <= COLUMN_COUNT; column++) {
+                sql.append(column == 1 ? "?" : ", ?").append(offset + column);
+            }
+            sql.append(")");
+        }
+        sql.append(UPSERT_ON_DUPLICATE_SQL);
+
+        // 2차 캐시에 올라가지 않는 테이블이므로 캐시 region 을 비우지 않도록 query space 를 지정한다.
+        NativeQuery<?> query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("cart");
+        for (int i = 0; i < carts.size(); i++) {
+            Cart cart = carts.get(i);
+            int offset = i * COLUMN_COUNT;
+            query.setParameter(offset + 1, cart.getUserAccount().getId())
+                    .setParameter(offset + 2, cart.getProductOption().getId())
+                    .setParameter(offset + 3, cart.getQuantity())
+                    .setParameter(offset + 4, cart.getPrice());
+        }
+        return query.executeUpdate();
+    }
+}
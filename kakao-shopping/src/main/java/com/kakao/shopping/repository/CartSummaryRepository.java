@@ -0,0 +1,24 @@
+package com.kakao.shopping.repository;
+
+import com.kakao.shopping.domain.CartSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface CartSummaryRepository extends JpaRepository<CartSummary, Long>, CartSummaryRepositoryCustom {
+    // 같은 사용자의 장바구니 변경을 순서대로 처리하기 위해 합계 행을 먼저 잠근다. 행은 createIfAbsent 로 미리 만들어 둔다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CartSummary s where s.userAccountId = :userId")
+    Optional<CartSummary> findByIdForUpdate(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update CartSummary s set s.totalPrice = 0, s.itemCount = 0 where s.userAccountId = :userId")
+    int resetByUserAccountId(@Param("userId") Long userId);
+}
@@ -0,0 +1,7 @@
+package com.kakao.shopping.repository;
+
+public interface CartSummaryRepositoryCustom {
+    void createIfAbsent(Long userId);
+
+    void add(Long userId, Long price, Long count);
+}
@@ -0,0 +1,53 @@
+package com.kakao.shopping.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+/*
+합계 행은 먼저 잠그고 읽는 대신 INSERT ... ON DUPLICATE KEY UPDATE 로 만든다.
+MySQL 에서 없는 행을 FOR UPDATE 로 읽으면 gap lock 만 잡히고, 같은 사용자의 첫 요청 두 개가 서로의 gap 에 INSERT 하며 deadlock 이 된다.
+INSERT IGNORE 는 이미 있는 행에 공유 lock 을 잡아 이어지는 FOR UPDATE 가 lock 을 올리다 deadlock 이 날 수 있으므로 사용하지 않는다.
+ */
+@RequiredArgsConstructor
+public class CartSummaryRepositoryImpl implements CartSummaryRepositoryCustom {
+    private static final String CREATE_IF_ABSENT_SQL
+            = "insert into cart_summary (user_account_id, total_price, item_count) values (?1, 0, 0)"
+            + " on duplicate key update user_account_id = user_account_id";
+    private static final String ADD_SQL
+            = "insert into cart_summary (user_account_id, total_price, item_count) values (?1, ?2, ?3)"
+            + " on duplicate key update total_price = total_price + values(total_price), item_count = item_count + values(item_count)";
+
+    private final EntityManager entityManager;
+
+    // 합계 행이 없는 사용자는 장바구니도 없으므로 0 으로 만든다.
+    @Override
+    @Transactional
+    public void createIfAbsent(Long userId) {
+        createQuery(CREATE_IF_ABSENT_SQL)
+                .setParameter(1, userId)
+                .executeUpdate();
+    }
+
+    // 행이 없으면 더할 값으로 만든다. 읽지 않고 한 번에 더하므로 합계 행이 영속성 컨텍스트에 올라가지 않는다.
+    @Override
+    @Transactional
+    public void add(Long userId, Long price, Long count) {
+        createQuery(ADD_SQL)
+                .setParameter(1, userId)
+                .setParameter(2, price)
+                .setParameter(3, count)
+                .executeUpdate();
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    // 2차 캐시에 올라가지 않는 테이블이므로 캐시 region 을 비우지 않도록 query space 를 지정한다.
+    private NativeQuery<?> createQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("cart_summary");
+    }
+}
@@ -1,21 +1,35 @@
 package com.kakao.shopping.repository;
 
 import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.dto.product.option.OptionStockDTO;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OptionRepository extends JpaRepository<ProductOption, Long> {
+public interface OptionRepository extends JpaRepository<ProductOption, Long>, OptionRepositoryCustom {
+    // 결과의 id 목록은 query cache 에, 옵션과 상품은 2차 캐시에 저장된다.
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @EntityGraph("OptionWithProduct")
     List<ProductOption> findAllByProductId(Long productId);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @EntityGraph("OptionWithProduct")
     List<ProductOption> findAllByIdIn(List<Long> ids);
 
     @EntityGraph("OptionWithProductAndCreatedBy")
     Optional<ProductOption> findById(Long id);
+
+    @Query("select o.stock from ProductOption o where o.id = :id")
+    Optional<Long> findStockById(@Param("id") Long id);
+
+    @Query("select new com.kakao.shopping.dto.product.option.OptionStockDTO(o.id, o.stock) from ProductOption o where o.product.id = :productId")
+    List<OptionStockDTO> findStocksByProductId(@Param("productId") Long productId);
 }
@@ -0,0 +1,12 @@
+package com.kakao.shopping.repository;
+
+import com.kakao.shopping.dto.product.request.StockCheckRequest;
+
+import java.util.List;
+import java.util.Map;
+
+public interface OptionRepositoryCustom {
+    int decreaseStockAll(List<StockCheckRequest> requests);
+
+    void subtractStockAll(Map<Long, Long> quantities);
+}
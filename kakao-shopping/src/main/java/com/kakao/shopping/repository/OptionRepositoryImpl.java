@@ -0,0 +1,113 @@
+package com.kakao.shopping.repository;
+
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.dto.product.request.StockCheckRequest;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class OptionRepositoryImpl implements OptionRepositoryCustom {
+    private static final String SUBTRACT_STOCK_SQL
+            = "update product_option set stock = stock - ? where id = ?";
+    // native UPDATE 가 2차 캐시 region 전체를 비우지 않도록 엔티티와 연결되지 않은 query space 를 지정한다.
+    private static final String STOCK_QUERY_SPACE = "product_option_stock";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /*
+    모든 옵션의 재고를 조건부 UPDATE 한 번으로 차감한다.
+    update product_option set stock = stock - (case id when ? then ? ... end)
+    where id in (?, ...) and stock >= (case id when ? then ? ... end)
+    재고가 충분한 행만 차감되며, 반환값은 갱신된 행 수이다. (요청 수보다 작으면 재고 부족)
+    요청의 옵션 id 는 중복되지 않아야 한다.
+     */
+    @Override
+    @Transactional
+    public int decreaseStockAll(List<StockCheckRequest> requests) {
+        if (requests.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        String quantityCase = quantityCase(requests, parameters);
+        String sql = "update product_option set stock = stock - " + quantityCase
+                + " where id in (" + placeholders(requests, parameters) + ")"
+                + " and stock >= " + quantityCase(requests, parameters);
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(STOCK_QUERY_SPACE);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        int updatedCount = query.executeUpdate();
+        evictAll(requests.stream().map(StockCheckRequest::optionId).toList());
+        return updatedCount;
+    }
+
+    // 재고 원장에서 이미 검증된 판매 수량을 반영하므로 재고 조건 없이 차감한다.
+    @Override
+    public void subtractStockAll(Map<Long, Long> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(SUBTRACT_STOCK_SQL, new ArrayList<>(quantities.entrySet()), quantities.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+        });
+        evictAll(new ArrayList<>(quantities.keySet()));
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /*
+    Hibernate 를 거치지 않고 바뀐 재고가 2차 캐시에 남지 않도록 해당 옵션만 지운다.
+    커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋된 뒤에 한 번 더 지운다.
+     */
+    private void evictAll(List<Long> optionIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Runnable eviction = () -> optionIds.forEach(id -> cache.evict(ProductOption.class, id));
+
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static String quantityCase(List<StockCheckRequest> requests, List<Object> parameters) {
+        StringBuilder builder = new StringBuilder("(case id");
+        for (StockCheckRequest request : requests) {
+            parameters.add(request.optionId());
+            parameters.add(request.quantity());
+            builder.append(" when ?").append(parameters.size() - 1)
+                    .append(" then ?").append(parameters.size());
+        }
+        return builder.append(" end)").toString();
+    }
+
+    private static String placeholders(List<StockCheckRequest> requests, List<Object> parameters) {
+        StringBuilder builder = new StringBuilder();
+        for (StockCheckRequest request : requests) {
+            parameters.add(request.optionId());
+            builder.append(builder.length() == 0 ? "?" : ", ?").append(parameters.size());
+        }
+        return builder.toString();
+    }
+}
@@ -1,9 +1,15 @@
 package com.kakao.shopping.repository;
 
 import com.kakao.shopping.domain.OrderDetail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long> {
+    @Query("select o.id from OrderDetail o where o.userAccount.id = :userId and o.id < :lastId order by o.id desc")
+    Slice<Long> findIdsByUserAccountIdBefore(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
 }
@@ -2,12 +2,21 @@ package com.kakao.shopping.repository;
 
 import com.kakao.shopping.domain.OrderDetail;
 import com.kakao.shopping.domain.OrderItem;
+import com.kakao.shopping.dto.order.OrderHistoryRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, OrderItemRepositoryCustom {
     List<OrderItem> findAllByOrderDetail(OrderDetail orderDetail);
+
+    // 엔티티를 만들지 않고, 상품 테이블과 join 없이 주문 시점에 저장된 컬럼만 읽는다.
+    @Query("select new com.kakao.shopping.dto.order.OrderHistoryRow(i.orderDetail.id, i.productId, i.productName, i.optionName, i.quantity, i.price) " +
+            "from OrderItem i " +
+            "where i.orderDetail.id in :orderIds order by i.orderDetail.id desc, i.id")
+    List<OrderHistoryRow> findHistoryRowsByOrderIds(@Param("orderIds") List<Long> orderIds);
 }
@@ -0,0 +1,9 @@
+package com.kakao.shopping.repository;
+
+import com.kakao.shopping.domain.OrderItem;
+
+import java.util.List;
+
+public interface OrderItemRepositoryCustom {
+    int insertAll(List<OrderItem> items);
+}
@@ -0,0 +1,56 @@
+package com.kakao.shopping.repository;
+
+import com.kakao.shopping.domain.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class OrderItemRepositoryImpl implements OrderItemRepositoryCustom {
+    private static final String INSERT_SQL
+            = "insert into order_item (order_detail_id, product_option_id, product_id, product_name, option_name, unit_price, quantity, price, created_at) values ";
+    private static final int COLUMN_COUNT = 9;
+
+    private final EntityManager entityManager;
+
+    // 주문 상품 수와 관계없이 multi-row INSERT 한 번으로 저장한다. 저장된 항목은 영속성 컨텍스트에 올라가지 않는다.
+    @Override
+    @Transactional
+    public int insertAll(List<OrderItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        for (int i = 0; i < items.size(); i++) {
+            int offset = i * COLUMN_COUNT;
+            sql.append(i == 0 ? "(" : ", (");
+            for (int column = 1; column <= COLUMN_COUNT; column++) {
+                sql.append(column == 1 ? "?" : ", ?").append(offset + column);
+            }
+            sql.append(")");
+        }
+
+        // 2차 캐시에 올라가지 않는 테이블이므로 캐시 region 을 비우지 않도록 query space 를 지정한다.
+        NativeQuery<?> query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("order_item");
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            int offset = i * COLUMN_COUNT;
+            query.setParameter(offset + 1, item.getOrderDetail().getId())
+                    .setParameter(offset + 2, item.getProductOption().getId())
+                    .setParameter(offset + 3, item.getProductId())
+                    .setParameter(offset + 4, item.getProductName())
+                    .setParameter(offset + 5, item.getOptionName())
+                    .setParameter(offset + 6, item.getUnitPrice())
+                    .setParameter(offset + 7, item.getQuantity())
+                    .setParameter(offset + 8, item.getPrice())
+                    .setParameter(offset + 9, item.getCreatedAt());
+        }
+        return query.executeUpdate();
+    }
+}
@@ -1,14 +1,23 @@
 package com.kakao.shopping.repository;
 
 import com.kakao.shopping.domain.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     @EntityGraph("ProductWithCreatedBy")
     Optional<Product> findById(Long id);
+
+    // count 쿼리 없이 id 이후의 상품을 조회한다.
+    // replica 에서 읽으므로 복제 지연된 상품이 2차 캐시에 들어가지 않도록 캐시에 저장하지 않는다.
+    @QueryHints(@QueryHint(name = "javax.persistence.cache.storeMode", value = "BYPASS"))
+    Slice<Product> findAllByIdGreaterThan(Long id, Pageable pageable);
 }
@@ -1,12 +1,14 @@
 package com.kakao.shopping.service;
 
+import com.kakao.shopping._core.cache.CartCache;
+import com.kakao.shopping._core.cache.CartSnapshot;
+import com.kakao.shopping._core.datasource.ReplicaStickiness;
 import com.kakao.shopping._core.errors.exception.BadRequestException;
 import com.kakao.shopping._core.errors.exception.ObjectNotFoundException;
 import com.kakao.shopping._core.errors.exception.PermissionDeniedException;
-import com.kakao.shopping._core.utils.calculator.CartPriceCalculator;
-import com.kakao.shopping._core.utils.calculator.PriceCalculator;
+import com.kakao.shopping._core.jfr.CartStageEvent;
 import com.kakao.shopping.domain.Cart;
-import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.CartSummary;
 import com.kakao.shopping.domain.ProductOption;
 import com.kakao.shopping.domain.UserAccount;
 import com.kakao.shopping.dto.cart.*;
@@ -15,44 +17,64 @@ import com.kakao.shopping.dto.cart.request.CartInsertRequest;
 import com.kakao.shopping.dto.cart.request.CartUpdateRequest;
 import com.kakao.shopping.dto.cart.response.CartUpdateResponse;
 import com.kakao.shopping.repository.CartRepository;
+import com.kakao.shopping.repository.CartSummaryRepository;
 import com.kakao.shopping.repository.OptionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class CartService {
     private final CartRepository cartRepository;
+    private final CartSummaryRepository cartSummaryRepository;
     private final OptionRepository optionRepository;
+    private final CartCache cartCache;
+    private final ReplicaStickiness replicaStickiness;
 
+    // 캐시에 없을 때만 DB 에서 읽고, 이후에는 변경 시 갱신된 snapshot 으로 응답한다.
     public CartDTO findAll(UserAccount user) {
-        List<Cart> carts = cartRepository.findAllByUserAccountId(user.getId()).orElse(null);
-
-        PriceCalculator calculator = new CartPriceCalculator(carts);
-        Long totalPrice = calculator.execute();
-
-        List<CartProductDTO> products = toCartProductDTO(carts);
-        return new CartDTO(products, totalPrice);
+        return cartCache.get(user.getId(), this::loadSnapshot).toDTO();
     }
 
+    /*
+    저장된 장바구니를 읽지 않고 upsert 한 번으로 담는다. 이미 담긴 옵션의 수량은 DB 에서 더해진다.
+    합계 행을 먼저 갱신하여 수정, 삭제, 주문과 같은 순서로 lock 을 잡는다.
+    각 단계는 JFR CartStageEvent 로 기록된다.
+     */
     @Transactional
     public void addCartList(List<CartInsertRequest> requests, UserAccount userAccount) {
         List<Long> ids = requests.stream().map(CartInsertRequest::optionId).distinct().toList();
         checkRequestValidation(requests.size(), ids.size());
 
-        List<ProductOption> options = optionRepository.findAllByIdIn(ids);
-        List<Cart> savedCarts = cartRepository.findAllByUserAccountId(userAccount.getId()).orElse(null);
+        CartStageEvent event = CartStageEvent.start();
+        Map<Long, ProductOption> optionsById = optionRepository.findAllByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ProductOption::getId, Function.identity()));
+        event.commit(CartStageEvent.OPTION_LOAD, userAccount.getId(), ids, 0L);
+        List<Cart> carts = requests
+                .stream()
+                .map(request -> Cart.builder()
+                        .userAccount(userAccount)
+                        .productOption(getProductOptionById(optionsById, request.optionId()))
+                        .quantity(request.quantity())
+                        .build())
+                .toList();
 
-        requests.forEach(request -> {
-            Cart cart = getCartById(userAccount, options, savedCarts, request.optionId());
-            Long quantity = cart.getQuantity() + request.quantity();
-            cart.updateQuantity(quantity);
-            cartRepository.save(cart);
-        });
+        event = CartStageEvent.start();
+        addToSummary(userAccount.getId(), sumOf(carts));
+        event.commit(CartStageEvent.SUMMARY_UPDATE, userAccount.getId(), ids, 1L);
+
+        event = CartStageEvent.start();
+        int upserted = cartRepository.upsertAll(carts);
+        event.commit(CartStageEvent.CART_UPSERT, userAccount.getId(), ids, upserted);
+        // 추가된 줄의 id 와 합산된 수량을 알 수 없으므로 다음 조회 때 다시 읽는다.
+        cartCache.evict(userAccount.getId());
+        replicaStickiness.markWritten(userAccount.getId());
     }
 
     @Transactional
@@ -60,99 +82,107 @@ public class CartService {
         List<Long> ids = requests.stream().map(CartUpdateRequest::cartId).distinct().toList();
         checkRequestValidation(requests.size(), ids.size());
 
-        List<Cart> savedCarts = cartRepository.findAllByUserAccountId(user.getId())
-                .orElseThrow(() -> new ObjectNotFoundException("장바구니가 비어있습니다."));
+        // 수정할 줄만 읽는다. 다른 사용자의 장바구니 id 는 읽히지 않아 찾을 수 없는 장바구니가 된다.
+        CartSummary summary = lockSummary(user.getId());
+        List<Cart> savedCarts = cartRepository.findAllByIdInAndUserAccountId(ids, user.getId());
+        cartCache.verify(user.getId(), CartSnapshot.of(savedCarts, toTotalDTO(summary)));
+        Map<Long, Cart> cartsById = savedCarts
+                .stream()
+                .collect(Collectors.toMap(Cart::getId, Function.identity()));
 
         List<Cart> carts = requests
                 .stream()
-                .map(request -> {
-                    Cart cart = getCartById(savedCarts, request.cartId());
-                    Long quantity = request.quantity();
-                    cart.updateQuantity(quantity);
-                    return cart;
-                })
+                .map(request -> getCartById(cartsById, request.cartId()))
                 .toList();
+        CartTotalDTO before = sumOf(carts);
+        for (int i = 0; i < carts.size(); i++) {
+            carts.get(i).updateQuantity(requests.get(i).quantity());
+        }
         cartRepository.saveAll(carts);
-
-        PriceCalculator calculator = new CartPriceCalculator(carts);
-        Long totalPrice = calculator.execute();
+        addDifference(summary, before, sumOf(carts));
+        cartCache.upsert(user.getId(), carts);
+        replicaStickiness.markWritten(user.getId());
 
         List<UpdatedCartDTO> updatedCarts = toUpdatedCartDTO(carts);
-        return new CartUpdateResponse(updatedCarts, totalPrice);
+        return new CartUpdateResponse(updatedCarts, summary.getTotalPrice());
     }
 
+    // 소유자 조건을 포함한 DELETE 한 번으로 삭제하고, 삭제된 행 수로 다른 사용자의 장바구니가 섞였는지 확인한다.
+    @Transactional
     public void delete(List<CartDeleteRequest> requests, UserAccount userAccount) {
-        List<Long> ids = requests.stream().map(CartDeleteRequest::cartId).toList();
-        List<Cart> carts = cartRepository.findAllById(ids);
-        carts.forEach(cart -> {
-            if (!cart.getUserAccount().equals(userAccount)) {
-                throw new PermissionDeniedException("해당 계정으로 접근할 수 없는 장바구니 입니다.");
-            }
-        });
-        cartRepository.deleteAll(carts);
+        // 빈 목록은 IN () 이 되어 실행할 수 없으므로 삭제할 것이 없는 요청으로 보고 끝낸다.
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = requests.stream().map(CartDeleteRequest::cartId).distinct().toList();
+        checkRequestValidation(requests.size(), ids.size());
+
+        CartSummary summary = lockSummary(userAccount.getId());
+        CartTotalDTO deleted = cartRepository.sumByIdInAndUserAccountId(ids, userAccount.getId());
+        int deletedCount = cartRepository.deleteAllByIdInAndUserAccountId(ids, userAccount.getId());
+        if (deletedCount != ids.size()) {
+            throw new PermissionDeniedException("해당 계정으로 접근할 수 없는 장바구니 입니다.");
+        }
+        summary.add(-deleted.totalPrice(), -deleted.itemCount());
+        cartCache.remove(userAccount.getId(), ids);
+        replicaStickiness.markWritten(userAccount.getId());
     }
 
     // ------------------------------------------------------------------------------------------
 
-    private static void checkRequestValidation(int requestCount, int idCount) {
-        if (!Objects.equals(requestCount, idCount)) {
-            throw new BadRequestException("잘못된 요청입니다. 요청에서 중복이 발생했습니다.");
-        }
+    private CartSnapshot loadSnapshot(Long userId) {
+        List<Cart> carts = cartRepository.findAllByUserAccountId(userId).orElse(List.of());
+        return cartSummaryRepository.findById(userId)
+                .map(summary -> CartSnapshot.of(carts, toTotalDTO(summary)))
+                .orElseGet(() -> CartSnapshot.of(carts));
     }
 
-    private static Cart getCartById(UserAccount userAccount, List<ProductOption> options, List<Cart> savedCarts, Long id) {
-        return savedCarts
-                .stream()
-                .filter(cart -> Objects.equals(cart.getProductOption().getId(), id))
-                .findFirst()
-                .orElseGet(() -> {
-                    ProductOption option = getProductOptionById(options, id);
-                    return Cart.builder()
-                            .userAccount(userAccount)
-                            .productOption(option)
-                            .quantity(0L)
-                            .build();
-                });
+    // 없는 행을 잠그면 같은 사용자의 첫 요청끼리 deadlock 이 나므로, 합계 행을 먼저 만든 뒤 잠근다.
+    private CartSummary lockSummary(Long userId) {
+        cartSummaryRepository.createIfAbsent(userId);
+        return cartSummaryRepository.findByIdForUpdate(userId).orElseThrow();
     }
 
-    private static Cart getCartById(List<Cart> savedCarts, Long id) {
-        return savedCarts
-                .stream()
-                .filter(cart1 -> Objects.equals(cart1.getId(), id))
-                .findFirst()
-                .orElseThrow(() -> new ObjectNotFoundException("해당 장바구니를 찾을 수 없습니다."));
+    private void addToSummary(Long userId, CartTotalDTO added) {
+        cartSummaryRepository.add(userId, added.totalPrice(), added.itemCount());
     }
 
-    private static ProductOption getProductOptionById(List<ProductOption> options, Long id) {
-        return options
-                .stream()
-                .filter(option1 -> Objects.equals(option1.getId(), id))
-                .findFirst()
-                .orElseThrow(() -> new ObjectNotFoundException("해당 옵션을 찾을 수 없습니다."));
+    private static void addDifference(CartSummary summary, CartTotalDTO before, CartTotalDTO after) {
+        summary.add(after.totalPrice() - before.totalPrice(), after.itemCount() - before.itemCount());
     }
 
-    private static List<CartProductDTO> toCartProductDTO(List<Cart> carts) {
-        return carts
-                .stream()
-                .map(cart -> cart.getProductOption().getProduct())
-                .distinct()
-                .map(product -> {
-                    List<CartItemDTO> items = toCartItemDTO(carts, product);
-                    return new CartProductDTO(product.getId(), product.getName(), items);
-                })
-                .toList();
+    private static CartTotalDTO sumOf(List<Cart> carts) {
+        return new CartTotalDTO(
+                carts.stream().mapToLong(Cart::getPrice).sum(),
+                carts.stream().mapToLong(Cart::getQuantity).sum()
+        );
     }
 
-    private static List<CartItemDTO> toCartItemDTO(List<Cart> carts, Product product) {
-        return carts
-                .stream()
-                .filter(cart -> cart.getProductOption().getProduct().getId().equals(product.getId()))
-                .map(item -> {
-                    ProductOption option = item.getProductOption();
-                    CartProductOptionDTO optionDTO = new CartProductOptionDTO(option.getId(), option.getName(), option.getPrice());
-                    return new CartItemDTO(option.getId(), optionDTO, item.getQuantity(), item.getPrice());
-                })
-                .toList();
+    private static CartTotalDTO toTotalDTO(CartSummary summary) {
+        return new CartTotalDTO(summary.getTotalPrice(), summary.getItemCount());
+    }
+
+    private static void checkRequestValidation(int requestCount, int idCount) {
+        if (!Objects.equals(requestCount, idCount)) {
+            throw new BadRequestException("잘못된 요청입니다. 요청에서 중복이 발생했습니다.");
+        }
+    }
+
+    private static Cart getCartById(Map<Long, Cart> cartsById, Long id) {
+        Cart cart = cartsById.get(id);
+        if (cart == null) {
+            throw new ObjectNotFoundException("해당 장바구니를 찾을 수 없습니다.");
+        }
+        return cart;
+    }
+
+    private static ProductOption getProductOptionById(Map<Long, ProductOption> optionsById, Long id) {
+        ProductOption option = optionsById.get(id);
+        if (option == null) {
+            throw new ObjectNotFoundException("해당 옵션을 찾을 수 없습니다.");
+        }
+        return option;
     }
 
     private static List<UpdatedCartDTO> toUpdatedCartDTO(List<Cart> carts) {
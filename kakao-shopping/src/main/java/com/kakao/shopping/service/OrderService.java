@@ -1,24 +1,40 @@
 package com.kakao.shopping.service;
 
+import com.kakao.shopping._core.cache.CartCache;
+import com.kakao.shopping._core.datasource.ReplicaStickiness;
 import com.kakao.shopping._core.errors.exception.BadRequestException;
 import com.kakao.shopping._core.errors.exception.ObjectNotFoundException;
 import com.kakao.shopping._core.errors.exception.OutOfStockException;
-import com.kakao.shopping._core.utils.calculator.OrderPriceCalculator;
-import com.kakao.shopping._core.utils.calculator.PriceCalculator;
+import com.kakao.shopping._core.jfr.CheckoutStageEvent;
+import com.kakao.shopping._core.metrics.CheckoutMetrics;
+import com.kakao.shopping._core.pricing.PriceEngine;
+import com.kakao.shopping._core.pricing.PricingLines;
+import com.kakao.shopping._core.stock.StockLedger;
+import com.kakao.shopping._core.utils.CursorUtils;
 import com.kakao.shopping.domain.*;
 import com.kakao.shopping.dto.order.OrderDTO;
+import com.kakao.shopping.dto.order.OrderHistoryRow;
 import com.kakao.shopping.dto.order.OrderItemDTO;
 import com.kakao.shopping.dto.order.OrderProductDTO;
+import com.kakao.shopping.dto.order.OrderSliceDTO;
+import com.kakao.shopping.dto.product.request.StockCheckRequest;
 import com.kakao.shopping.repository.CartRepository;
+import com.kakao.shopping.repository.CartSummaryRepository;
 import com.kakao.shopping.repository.OptionRepository;
 import com.kakao.shopping.repository.OrderDetailRepository;
 import com.kakao.shopping.repository.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -26,82 +42,185 @@ public class OrderService {
     private final OrderDetailRepository orderDetailRepository;
     private final OrderItemRepository orderItemRepository;
     private final CartRepository cartRepository;
+    private final CartSummaryRepository cartSummaryRepository;
     private final OptionRepository optionRepository;
+    private final StockLedger stockLedger;
+    private final CartCache cartCache;
+    private final PriceEngine priceEngine;
+    private final ReplicaStickiness replicaStickiness;
+    private final CheckoutMetrics checkoutMetrics;
 
+    @Transactional(readOnly = true)
     public OrderDTO findById(Long orderId, UserAccount userAccount) {
         OrderDetail orderDetail = getOrderDetail(orderId, userAccount);
         List<OrderItem> items = orderItemRepository.findAllByOrderDetail(orderDetail);
         return toDTO(orderId, items);
     }
 
-    @Transactional
-    public OrderDTO save(UserAccount userAccount) {
-        List<Cart> carts = cartRepository.findAllByUserAccountId(userAccount.getId())
-                .orElseThrow(() -> new BadRequestException("장바구니가 비어있습니다."));
+    /*
+    최근 주문부터 size 개씩 조회한다.
+    주문 id 를 먼저 읽은 뒤, 해당 주문들의 상품을 projection query 한 번으로 읽어 묶는다.
+     */
+    @Transactional(readOnly = true)
+    public OrderSliceDTO findOrders(UserAccount userAccount, String cursor, int size) {
+        Long lastId = CursorUtils.decode(cursor, Long.MAX_VALUE);
+        Slice<Long> orderIds = orderDetailRepository.findIdsByUserAccountIdBefore(userAccount.getId(), lastId, PageRequest.of(0, size));
+        if (orderIds.isEmpty()) {
+            return new OrderSliceDTO(List.of(), null);
+        }
 
-        checkStock(carts);
-        cartRepository.deleteAll(carts);
+        List<OrderHistoryRow> rows = orderItemRepository.findHistoryRowsByOrderIds(orderIds.getContent());
+        List<OrderDTO> orders = toDTO(rows);
+        String nextCursor = orderIds.hasNext() ? CursorUtils.encode(orderIds.getContent().get(orderIds.getNumberOfElements() - 1)) : null;
+        return new OrderSliceDTO(orders, nextCursor);
+    }
 
-        carts.forEach(cart -> {
-            ProductOption option = cart.getProductOption();
-            Long stock = option.getStock() - cart.getQuantity();
-            option.updateStock(userAccount, stock);
-            optionRepository.save(option);
+    /*
+    장바구니 크기와 관계없이 아래의 고정된 수의 statement 로 주문한다.
+    장바구니 합계 초기화 UPDATE -> 장바구니 조회(lock) -> 옵션, 상품 조회 -> 재고 차감 UPDATE -> 장바구니 DELETE -> 주문 INSERT -> 주문 상품 multi-row INSERT
+    각 단계는 checkout.stage timer 와 JFR CheckoutStageEvent 로 기록된다.
+     */
+    @Transactional
+    public OrderDTO save(UserAccount userAccount) {
+        Long userId = userAccount.getId();
+        CheckoutStageEvent event = CheckoutStageEvent.start();
+        List<Cart> carts = checkoutMetrics.record(CheckoutMetrics.Stage.CART_LOAD, () -> {
+            // 장바구니 변경과 같은 순서로 잠그도록 합계 행을 먼저 갱신한다.
+            cartSummaryRepository.resetByUserAccountId(userId);
+            return cartRepository.findAllForCheckout(userId);
         });
+        event.commit(CheckoutMetrics.Stage.CART_LOAD, userId, carts, 0L);
+        if (carts.isEmpty()) {
+            throw new BadRequestException("장바구니가 비어있습니다.");
+        }
 
-        OrderDetail orderDetail = orderDetailRepository.save(OrderDetail.of(userAccount));
-        List<OrderItem> items = getOrderItems(carts, orderDetail);
+        decreaseStock(userId, carts);
+        event = CheckoutStageEvent.start();
+        int deletedCount = checkoutMetrics.record(CheckoutMetrics.Stage.CART_CLEAR, () -> cartRepository.deleteAllByUserAccountId(userId));
+        event.commit(CheckoutMetrics.Stage.CART_CLEAR, userId, carts, deletedCount);
+        if (deletedCount != carts.size()) {
+            throw new BadRequestException("주문 중 장바구니가 변경되었습니다. 다시 시도해주세요.");
+        }
+        cartCache.evict(userId);
+        replicaStickiness.markWritten(userId);
+
+        CheckoutStageEvent insertEvent = CheckoutStageEvent.start();
+        return checkoutMetrics.record(CheckoutMetrics.Stage.ORDER_INSERT, () -> {
+            OrderDetail orderDetail = orderDetailRepository.save(OrderDetail.of(userAccount));
+            List<OrderItem> items = getOrderItems(carts, orderDetail);
 
-        orderItemRepository.saveAll(items);
-        return toDTO(orderDetail.getId(), items);
+            int inserted = orderItemRepository.insertAll(items);
+            insertEvent.commit(CheckoutMetrics.Stage.ORDER_INSERT, userId, carts, inserted + 1L);
+            return toDTO(orderDetail.getId(), items);
+        });
     }
 
     private OrderDetail getOrderDetail(Long orderId, UserAccount userAccount) {
         OrderDetail orderDetail = orderDetailRepository.findById(orderId)
                 .orElseThrow(() -> new ObjectNotFoundException("존재하지 않는 주문입니다."));
 
-        if (!orderDetail.getUserAccount().equals(userAccount)) {
+        // 지연 로딩된 사용자를 초기화하지 않도록 id 만 비교한다.
+        if (!orderDetail.getUserAccount().getId().equals(userAccount.getId())) {
             throw new BadRequestException("접근할 수 없는 주문내역 입니다.");
         }
         return orderDetail;
     }
 
-    private static void checkStock(List<Cart> carts) {
-        carts.forEach(cart -> {
-            if (cart.getProductOption().getStock() < cart.getQuantity()) {
-                throw new OutOfStockException("재고가 부족합니다.");
-            }
-        });
+    // 재고 확인과 차감을 조건부 UPDATE 한 번으로 처리하여 동시 주문 시 초과 판매를 막는다.
+    private void decreaseStock(Long userId, List<Cart> carts) {
+        Map<Long, Long> quantities = carts
+                .stream()
+                .collect(Collectors.toMap(
+                        cart -> cart.getProductOption().getId(),
+                        Cart::getQuantity,
+                        Long::sum,
+                        TreeMap::new
+                ));
+        List<StockCheckRequest> requests = quantities.entrySet()
+                .stream()
+                .map(entry -> new StockCheckRequest(entry.getKey(), entry.getValue()))
+                .toList();
+
+        CheckoutStageEvent event = CheckoutStageEvent.start();
+        List<StockCheckRequest> databaseRequests = checkoutMetrics.record(CheckoutMetrics.Stage.STOCK_CHECK, () -> stockLedger.reserveAll(requests));
+        event.commit(CheckoutMetrics.Stage.STOCK_CHECK, userId, carts, 0L);
+
+        event = CheckoutStageEvent.start();
+        int updatedCount = checkoutMetrics.record(CheckoutMetrics.Stage.STOCK_UPDATE, () -> optionRepository.decreaseStockAll(databaseRequests));
+        event.commit(CheckoutMetrics.Stage.STOCK_UPDATE, userId, carts, updatedCount);
+        if (updatedCount != databaseRequests.size()) {
+            throw new OutOfStockException("재고가 부족합니다.");
+        }
+    }
+
+    // 주문 상품 금액은 할인과 쿠폰이 반영된 줄 금액이다.
+    private List<OrderItem> getOrderItems(List<Cart> carts, OrderDetail orderDetail) {
+        PricingLines lines = new PricingLines(carts.size());
+        for (Cart cart : carts) {
+            ProductOption option = cart.getProductOption();
+            lines.add(option.getId(), option.getPrice(), cart.getQuantity());
+        }
+        priceEngine.price(lines);
+
+        List<OrderItem> items = new ArrayList<>(carts.size());
+        for (int i = 0; i < carts.size(); i++) {
+            Cart cart = carts.get(i);
+            items.add(OrderItem.of(orderDetail, cart.getProductOption(), cart.getQuantity(), lines.amount(i)));
+        }
+        return items;
     }
 
-    private static List<OrderItem> getOrderItems(List<Cart> carts, OrderDetail orderDetail) {
-        return carts
+    // 상품 id 기준으로 한 번에 묶어 상품별 주문 목록을 만든다. 상품 정보는 주문 시점에 저장된 값을 사용한다.
+    static OrderDTO toDTO(Long orderId, List<OrderItem> items) {
+        Map<Long, List<OrderItem>> itemsByProductId = items
                 .stream()
-                .map(cart -> OrderItem.of(orderDetail, cart.getProductOption(), cart.getQuantity(), cart.getPrice()))
+                .collect(Collectors.groupingBy(
+                        OrderItem::getProductId,
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+
+        List<OrderProductDTO> orderProducts = itemsByProductId
+                .values()
+                .stream()
+                .map(productItems -> new OrderProductDTO(productItems.get(0).getProductName(), getOrderItemDTOS(productItems)))
                 .toList();
+
+        long totalPrice = items.stream().mapToLong(OrderItem::getPrice).sum();
+        return new OrderDTO(orderId, orderProducts, totalPrice);
     }
 
-    private static OrderDTO toDTO(Long orderId, List<OrderItem> items) {
-        List<OrderProductDTO> orderProducts = items
+    private static List<OrderDTO> toDTO(List<OrderHistoryRow> rows) {
+        Map<Long, List<OrderHistoryRow>> rowsByOrderId = rows
                 .stream()
-                .map(orderItem -> orderItem.getProductOption().getProduct())
-                .distinct()
-                .map(orderItem -> {
-                    List<OrderItemDTO> options = getOrderItemDTOS(items, orderItem);
-                    return new OrderProductDTO(orderItem.getName(), options);
+                .collect(Collectors.groupingBy(OrderHistoryRow::orderId, LinkedHashMap::new, Collectors.toList()));
+
+        return rowsByOrderId.entrySet()
+                .stream()
+                .map(entry -> {
+                    Map<Long, List<OrderHistoryRow>> rowsByProductId = entry.getValue()
+                            .stream()
+                            .collect(Collectors.groupingBy(OrderHistoryRow::productId, LinkedHashMap::new, Collectors.toList()));
+
+                    List<OrderProductDTO> orderProducts = rowsByProductId.values()
+                            .stream()
+                            .map(productRows -> new OrderProductDTO(
+                                    productRows.get(0).productName(),
+                                    productRows.stream()
+                                            .map(row -> new OrderItemDTO(row.optionName(), row.quantity(), row.price()))
+                                            .toList()
+                            ))
+                            .toList();
+                    long totalPrice = entry.getValue().stream().mapToLong(OrderHistoryRow::price).sum();
+                    return new OrderDTO(entry.getKey(), orderProducts, totalPrice);
                 })
                 .toList();
-
-        PriceCalculator calculator = new OrderPriceCalculator(items);
-        Long totalPrice = calculator.execute();
-        return new OrderDTO(orderId, orderProducts, totalPrice);
     }
 
-    private static List<OrderItemDTO> getOrderItemDTOS(List<OrderItem> items, Product orderItem) {
+    private static List<OrderItemDTO> getOrderItemDTOS(List<OrderItem> items) {
         return items
                 .stream()
-                .filter(item -> Objects.equals(item.getProductOption().getProduct().getId(), orderItem.getId()))
-                .map(item -> new OrderItemDTO(item.getProductOption().getName(), item.getQuantity(), item.getPrice()))
+                .map(item -> new OrderItemDTO(item.getOptionName(), item.getQuantity(), item.getPrice()))
                 .toList();
     }
 }
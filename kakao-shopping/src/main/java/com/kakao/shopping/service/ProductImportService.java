@@ -0,0 +1,150 @@
+package com.kakao.shopping.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.shopping._core.errors.exception.BadRequestException;
+import com.kakao.shopping._core.errors.exception.InvalidFormatException;
+import com.kakao.shopping._core.utils.CsvLineParser;
+import com.kakao.shopping.domain.UserAccount;
+import com.kakao.shopping.dto.product.ProductImportChunkDTO;
+import com.kakao.shopping.dto.product.request.ProductInsertRequest;
+import com.kakao.shopping.dto.product.response.ProductImportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+판매자의 상품 목록을 요청 본문에서 한 건씩 읽어 CHUNK_SIZE 단위로 저장한다.
+전체 목록을 메모리에 올리지 않으며, 각 chunk 는 별도의 트랜잭션으로 저장된다.
+중간에 잘못된 상품이 있으면 그 앞의 chunk 까지는 저장된 상태로 요청이 실패한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ProductImportService {
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    private static final int CHUNK_SIZE = 500;
+    private static final List<String> CSV_HEADER = List.of("name", "description", "image", "price");
+
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    public ProductImportResponse importProducts(UserAccount userAccount, InputStream inputStream, MediaType contentType) throws IOException {
+        ChunkWriter writer = new ChunkWriter(userAccount);
+        if (TEXT_CSV.includes(contentType)) {
+            readCsv(inputStream, writer);
+        }
+        else {
+            readJson(inputStream, writer);
+        }
+        writer.flush();
+        return new ProductImportResponse(writer.importedCount, writer.chunks);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private void readJson(InputStream inputStream, ChunkWriter writer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidFormatException("상품 목록은 배열 형식이어야 합니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                writer.write(objectMapper.readValue(parser, ProductInsertRequest.class));
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new InvalidFormatException("상품 목록의 형식이 올바르지 않습니다.");
+            }
+        }
+    }
+
+    private void readCsv(InputStream inputStream, ChunkWriter writer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null || !CsvLineParser.parse(header.strip()).equals(CSV_HEADER)) {
+                throw new InvalidFormatException("CSV 헤더는 " + String.join(",", CSV_HEADER) + " 이어야 합니다.");
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                writer.write(toRequest(CsvLineParser.parse(line), writer.readCount + 1));
+            }
+        }
+    }
+
+    private static ProductInsertRequest toRequest(List<String> fields, long index) {
+        if (fields.size() != CSV_HEADER.size()) {
+            throw new InvalidFormatException(index + "번째 상품의 항목 수가 올바르지 않습니다.");
+        }
+
+        try {
+            return new ProductInsertRequest(fields.get(0), fields.get(1), fields.get(2), Long.parseLong(fields.get(3).strip()));
+        }
+        catch (NumberFormatException exception) {
+            throw new InvalidFormatException(index + "번째 상품의 가격이 숫자가 아닙니다.");
+        }
+    }
+
+    private class ChunkWriter {
+        private final UserAccount userAccount;
+        private final List<ProductInsertRequest> buffer = new ArrayList<>(CHUNK_SIZE);
+        private final List<ProductImportChunkDTO> chunks = new ArrayList<>();
+        private long readCount = 0;
+        private long importedCount = 0;
+
+        ChunkWriter(UserAccount userAccount) {
+            this.userAccount = userAccount;
+        }
+
+        void write(ProductInsertRequest request) {
+            readCount++;
+            validate(request);
+            buffer.add(request);
+            if (buffer.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+
+            productService.saveProducts(userAccount, buffer);
+            // open-in-view 로 요청 동안 유지되는 영속성 컨텍스트에 저장한 상품이 쌓이지 않도록 비운다.
+            entityManager.clear();
+
+            importedCount += buffer.size();
+            chunks.add(new ProductImportChunkDTO(chunks.size() + 1, buffer.size(), importedCount));
+            buffer.clear();
+        }
+
+        private void validate(ProductInsertRequest request) {
+            Set<ConstraintViolation<ProductInsertRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                throw new BadRequestException(
+                        readCount + "번째 상품 : " + violations.iterator().next().getMessage()
+                                + " (저장된 상품 수 : " + importedCount + ")"
+                );
+            }
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.kakao.shopping.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.shopping._core.cache.CachedResponse;
+import com.kakao.shopping._core.cache.CartCache;
+import com.kakao.shopping._core.cache.ProductCache;
 import com.kakao.shopping._core.errors.exception.BadRequestException;
 import com.kakao.shopping._core.errors.exception.PermissionDeniedException;
+import com.kakao.shopping._core.stock.StockLedger;
+import com.kakao.shopping._core.utils.ApiUtils;
+import com.kakao.shopping._core.utils.CursorUtils;
 import com.kakao.shopping.domain.ProductOption;
 import com.kakao.shopping.domain.Product;
 import com.kakao.shopping.domain.UserAccount;
 import com.kakao.shopping.dto.product.ProductDTO;
 import com.kakao.shopping.dto.product.ProductListItemDTO;
+import com.kakao.shopping.dto.product.ProductSliceDTO;
+import com.kakao.shopping.dto.product.option.OptionStockDTO;
 import com.kakao.shopping.dto.product.option.ProductOptionDTO;
 import com.kakao.shopping.dto.product.option.request.OptionInsertRequest;
 import com.kakao.shopping.dto.product.request.OptionStockUpdateRequest;
@@ -17,59 +27,108 @@ import com.kakao.shopping.repository.OptionRepository;
 import com.kakao.shopping.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class ProductService {
+    public static final int PAGE_SIZE = 9;
+
     private final ProductRepository productRepository;
     private final OptionRepository optionRepository;
+    private final StockLedger stockLedger;
+    private final ProductCache productCache;
+    private final CartCache cartCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
-    public List<ProductListItemDTO> findAllProducts(PageRequest pageRequest) {
-        return productRepository.findAll(pageRequest)
-                .getContent()
+    // 목록 페이지의 응답 본문을 한 번만 직렬화하여 캐시한다.
+    public CachedResponse findAllProductsResponse(int page) {
+        return productCache.getPageResponse(page, key -> render(loadFromPrimary(() -> loadProducts(key))));
+    }
+
+    // 상품 캐시를 거치지 않으므로 replica 에서 읽는다. (ProductRepository.findAllByIdGreaterThan 참고)
+    @Transactional(readOnly = true)
+    public ProductSliceDTO findProductsAfter(String cursor, int size) {
+        Long lastId = CursorUtils.decode(cursor, 0L);
+        Slice<Product> slice = productRepository.findAllByIdGreaterThan(lastId, PageRequest.of(0, size, Sort.by("id")));
+
+        List<ProductListItemDTO> products = slice.getContent()
                 .stream()
                 .map(ProductService::toDTO)
                 .toList();
+        String nextCursor = slice.hasNext() ? CursorUtils.encode(products.get(products.size() - 1).id()) : null;
+        return new ProductSliceDTO(products, nextCursor);
     }
 
+    // 상품 정보는 캐시에서, 재고는 짧은 TTL 의 재고 캐시에서 읽어 덮어쓴다.
     public ProductDTO findProductById(Long id) {
-        List<ProductOption> productOptions = getProductOptionsById(id);
-        Product product = productOptions.get(0).getProduct();
-        List<ProductOptionDTO> options = toDTO(productOptions);
-        return new ProductDTO(product.getId(), product.getName(), product.getDescription(), product.getImage(), product.getPrice(), product.getStarCount(), options);
+        if (id <= 0) {
+            throw new BadRequestException("id는 음수가 될 수 없습니다.");
+        }
+
+        ProductDTO product = productCache.getProduct(id, key -> loadFromPrimary(() -> loadProductById(key)));
+        Map<Long, Long> stocks = productCache.getStocks(id, key -> loadFromPrimary(() -> loadStocksByProductId(key)));
+        return withStocks(product, stocks);
+    }
+
+    public CachedResponse findProductResponseById(Long id) {
+        if (id <= 0) {
+            throw new BadRequestException("id는 음수가 될 수 없습니다.");
+        }
+
+        return productCache.getProductResponse(id, key -> render(findProductById(key)));
     }
 
     public void saveProduct(UserAccount userAccount, ProductInsertRequest request) {
         productRepository.save(Product.of(request, userAccount));
+        productCache.evictPages();
     }
 
     public List<Product> saveProducts(UserAccount userAccount, List<ProductInsertRequest> requests) {
-        return productRepository.saveAll(
+        List<Product> products = productRepository.saveAll(
                 requests.stream()
                         .map(request -> Product.of(request, userAccount))
                         .toList()
         );
+        productCache.evictPages();
+        return products;
     }
 
     public ProductOption saveOption(UserAccount userAccount, OptionInsertRequest request) {
-        return optionRepository.save(ProductOption.of(request, userAccount));
+        ProductOption option = optionRepository.save(ProductOption.of(request, userAccount));
+        productCache.evictProduct(option.getProduct().getId());
+        return option;
     }
 
     public List<ProductOption> saveOptions(UserAccount userAccount, List<OptionInsertRequest> requests) {
-        return optionRepository.saveAll(
+        List<ProductOption> options = optionRepository.saveAll(
                 requests.stream()
                         .map(request -> ProductOption.of(request, userAccount))
                         .toList()
         );
+        options.stream()
+                .map(option -> option.getProduct().getId())
+                .distinct()
+                .forEach(productCache::evictProduct);
+        return options;
     }
 
     public ProductOptionDTO updateStockById(UserAccount userAccount, OptionStockUpdateRequest request) {
         ProductOption option = getProductOptionById(request.optionId(), userAccount);
         option.updateStock(userAccount, request.stock());
-        ProductOption updatedOption = optionRepository.save(option);
+        ProductOption updatedOption = stockLedger.updateStock(option.getId(), request.stock(), () -> optionRepository.save(option));
+        productCache.evictStocks(option.getProduct().getId());
         return toDTO(List.of(updatedOption)).get(0);
     }
 
@@ -77,6 +136,8 @@ public class ProductService {
         Product product = getProductById(userAccount, id);
         update(userAccount, request, product);
         Product updatedProduct = productRepository.save(product);
+        productCache.evictProduct(updatedProduct.getId());
+        cartCache.evictProduct(updatedProduct.getId());
         return toDTO(updatedProduct);
     }
 
@@ -84,11 +145,38 @@ public class ProductService {
         ProductOption option = getProductOptionById(id, userAccount);
         update(userAccount, request, option);
         ProductOption updatedOption = optionRepository.save(option);
+        productCache.evictProduct(option.getProduct().getId());
+        cartCache.evictProduct(option.getProduct().getId());
         return toDTO(List.of(updatedOption)).get(0);
     }
 
     // ------------------------------------------------------------------------------------------
 
+    /*
+    상품 캐시와 2차 캐시는 모든 사용자가 함께 읽으므로 복제 지연이 없는 primary 에서 채운다.
+    읽기 전용 트랜잭션은 replica 로 연결되므로 쓰기 트랜잭션으로 열며, 캐시에 있으면 트랜잭션과 연결을 얻지 않는다.
+     */
+    private <T> T loadFromPrimary(Supplier<T> loader) {
+        return transactionTemplate.execute(status -> loader.get());
+    }
+
+    private List<ProductListItemDTO> loadProducts(int page) {
+        return productRepository.findAll(PageRequest.of(page, PAGE_SIZE))
+                .getContent()
+                .stream()
+                .map(ProductService::toDTO)
+                .toList();
+    }
+
+    private CachedResponse render(Object response) {
+        try {
+            return CachedResponse.of(objectMapper.writeValueAsBytes(ApiUtils.success(response)));
+        }
+        catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
     private static ProductListItemDTO toDTO(Product product) {
         return new ProductListItemDTO(
                 product.getId(),
@@ -106,11 +194,29 @@ public class ProductService {
                 .toList();
     }
 
-    private List<ProductOption> getProductOptionsById(Long id) {
-        if (id <= 0) {
-            throw new BadRequestException("id는 음수가 될 수 없습니다.");
-        }
+    private ProductDTO loadProductById(Long id) {
+        List<ProductOption> productOptions = getProductOptionsById(id);
+        Product product = productOptions.get(0).getProduct();
+        List<ProductOptionDTO> options = toDTO(productOptions);
+        return new ProductDTO(product.getId(), product.getName(), product.getDescription(), product.getImage(), product.getPrice(), product.getStarCount(), options);
+    }
+
+    private Map<Long, Long> loadStocksByProductId(Long productId) {
+        return optionRepository.findStocksByProductId(productId)
+                .stream()
+                .collect(Collectors.toMap(OptionStockDTO::id, OptionStockDTO::stock));
+    }
+
+    // 재고 캐시에 없는 옵션은 상품 캐시에 저장된 재고를 그대로 사용한다.
+    private static ProductDTO withStocks(ProductDTO product, Map<Long, Long> stocks) {
+        List<ProductOptionDTO> options = product.productOptions()
+                .stream()
+                .map(option -> new ProductOptionDTO(option.id(), option.name(), option.price(), stocks.getOrDefault(option.id(), option.stock())))
+                .toList();
+        return new ProductDTO(product.id(), product.name(), product.description(), product.image(), product.price(), product.starCount(), options);
+    }
 
+    private List<ProductOption> getProductOptionsById(Long id) {
         List<ProductOption> productOptions = optionRepository.findAllByProductId(id);
 
         if (productOptions.isEmpty()) {
@@ -3,6 +3,7 @@ package com.kakao.shopping.service;
 import com.kakao.shopping._core.errors.exception.BadRequestException;
 import com.kakao.shopping._core.security.CustomUserDetails;
 import com.kakao.shopping._core.security.JwtTokenProvider;
+import com.kakao.shopping._core.security.PasswordHasher;
 import com.kakao.shopping.domain.UserAccount;
 import com.kakao.shopping.dto.user.UserLoginRequest;
 import com.kakao.shopping.dto.user.UserRegisterRequest;
@@ -12,14 +13,13 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class UserAccountService implements UserDetailsService {
     private final UserAccountRepository userAccountRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -41,7 +41,7 @@ public class UserAccountService implements UserDetailsService {
         UserAccount userAccount = userAccountRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BadRequestException("등록되지 않은 이메일 입니다."));
 
-        if (!passwordEncoder.matches(request.password(), userAccount.getPassword())) {
+        if (!passwordHasher.matches(request.password(), userAccount.getPassword())) {
             throw new BadRequestException("비밀번호가 일치하지 않습니다.");
         }
 
@@ -52,7 +52,7 @@ public class UserAccountService implements UserDetailsService {
         return UserAccount.builder()
                 .name(request.name())
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHasher.encode(request.password()))
                 .birthdate(request.birthdate())
                 .build();
     }
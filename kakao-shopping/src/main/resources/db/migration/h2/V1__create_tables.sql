@@ -0,0 +1,95 @@
+-- 엔티티 매핑과 같은 스키마 (H2, MySQL mode). 이후 변경은 새 버전의 migration 으로 추가한다.
+
+create table user_account (
+    id          bigint       generated by default as identity,
+    name        varchar(45)  not null,
+    provider    varchar(255) not null,
+    email       varchar(100) not null,
+    password    varchar(256) not null,
+    birthdate   date         not null,
+    roles       varchar(30)  not null,
+    created_at  timestamp(6) not null,
+    modified_at timestamp(6),
+    primary key (id),
+    constraint uk_user_account_email unique (email)
+);
+
+-- 증가 폭은 엔티티의 allocationSize 와 같아야 한다.
+create sequence product_seq start with 1 increment by 50;
+create sequence product_option_seq start with 1 increment by 50;
+
+create table product (
+    id             bigint        not null,
+    name           varchar(100)  not null,
+    description    varchar(1000),
+    image          varchar(100)  not null,
+    price          bigint        not null,
+    star_count     bigint,
+    created_at     timestamp(6)  not null,
+    created_by_id  bigint,
+    modified_at    timestamp(6),
+    modified_by_id bigint,
+    primary key (id),
+    constraint fk_product_created_by foreign key (created_by_id) references user_account (id),
+    constraint fk_product_modified_by foreign key (modified_by_id) references user_account (id)
+);
+
+create table product_option (
+    id             bigint       not null,
+    product_id     bigint,
+    name           varchar(255) not null,
+    price          bigint       not null,
+    stock          bigint       not null,
+    created_at     timestamp(6) not null,
+    created_by_id  bigint,
+    modified_at    timestamp(6),
+    modified_by_id bigint,
+    primary key (id),
+    constraint fk_product_option_product foreign key (product_id) references product (id),
+    constraint fk_product_option_created_by foreign key (created_by_id) references user_account (id),
+    constraint fk_product_option_modified_by foreign key (modified_by_id) references user_account (id)
+);
+
+create table cart (
+    id                bigint generated by default as identity,
+    user_account_id   bigint,
+    product_option_id bigint,
+    quantity          bigint not null,
+    price             bigint not null,
+    primary key (id),
+    constraint uk_cart_user_option unique (user_account_id, product_option_id),
+    constraint fk_cart_user_account foreign key (user_account_id) references user_account (id),
+    constraint fk_cart_product_option foreign key (product_option_id) references product_option (id)
+);
+
+create table cart_summary (
+    user_account_id bigint not null,
+    total_price     bigint not null,
+    item_count      bigint not null,
+    primary key (user_account_id)
+);
+
+create table order_detail (
+    id              bigint      generated by default as identity,
+    user_account_id bigint,
+    created_at      timestamp(6),
+    primary key (id),
+    constraint fk_order_detail_user_account foreign key (user_account_id) references user_account (id)
+);
+
+create table order_item (
+    id                bigint       generated by default as identity,
+    order_detail_id   bigint,
+    product_option_id bigint,
+    product_id        bigint       not null,
+    product_name      varchar(255) not null,
+    option_name       varchar(255) not null,
+    unit_price        bigint       not null,
+    quantity          bigint       not null,
+    price             bigint       not null,
+    created_at        timestamp(6),
+    modified_at       timestamp(6),
+    primary key (id),
+    constraint fk_order_item_order_detail foreign key (order_detail_id) references order_detail (id),
+    constraint fk_order_item_product_option foreign key (product_option_id) references product_option (id)
+);
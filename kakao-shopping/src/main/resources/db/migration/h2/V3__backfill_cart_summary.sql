@@ -0,0 +1,7 @@
+-- 합계 행 없이 담긴 장바구니의 합계를 채운다.
+-- 이후로는 합계 행이 없는 사용자에게는 장바구니도 없으므로, CartService 는 없는 합계 행을 0 으로 만든다.
+insert into cart_summary (user_account_id, total_price, item_count)
+select c.user_account_id, sum(c.price), sum(c.quantity)
+from cart c
+where not exists (select 1 from cart_summary s where s.user_account_id = c.user_account_id)
+group by c.user_account_id;
@@ -0,0 +1,102 @@
+-- 엔티티 매핑과 같은 스키마. 이후 변경은 새 버전의 migration 으로 추가한다.
+
+create table user_account (
+    id          bigint       not null auto_increment,
+    name        varchar(45)  not null,
+    provider    varchar(255) not null,
+    email       varchar(100) not null,
+    password    varchar(256) not null,
+    birthdate   date         not null,
+    roles       varchar(30)  not null,
+    created_at  datetime(6)  not null,
+    modified_at datetime(6),
+    primary key (id),
+    constraint uk_user_account_email unique (email)
+) engine = InnoDB;
+
+-- MySQL 에는 sequence 가 없으므로 Hibernate 가 사용하는 한 행짜리 테이블로 대신한다.
+create table product_seq (
+    next_val bigint
+) engine = InnoDB;
+insert into product_seq values (1);
+
+create table product_option_seq (
+    next_val bigint
+) engine = InnoDB;
+insert into product_option_seq values (1);
+
+create table product (
+    id             bigint        not null,
+    name           varchar(100)  not null,
+    description    varchar(1000),
+    image          varchar(100)  not null,
+    price          bigint        not null,
+    star_count     bigint,
+    created_at     datetime(6)   not null,
+    created_by_id  bigint,
+    modified_at    datetime(6),
+    modified_by_id bigint,
+    primary key (id),
+    constraint fk_product_created_by foreign key (created_by_id) references user_account (id),
+    constraint fk_product_modified_by foreign key (modified_by_id) references user_account (id)
+) engine = InnoDB;
+
+create table product_option (
+    id             bigint       not null,
+    product_id     bigint,
+    name           varchar(255) not null,
+    price          bigint       not null,
+    stock          bigint       not null,
+    created_at     datetime(6)  not null,
+    created_by_id  bigint,
+    modified_at    datetime(6),
+    modified_by_id bigint,
+    primary key (id),
+    constraint fk_product_option_product foreign key (product_id) references product (id),
+    constraint fk_product_option_created_by foreign key (created_by_id) references user_account (id),
+    constraint fk_product_option_modified_by foreign key (modified_by_id) references user_account (id)
+) engine = InnoDB;
+
+create table cart (
+    id                bigint not null auto_increment,
+    user_account_id   bigint,
+    product_option_id bigint,
+    quantity          bigint not null,
+    price             bigint not null,
+    primary key (id),
+    constraint uk_cart_user_option unique (user_account_id, product_option_id),
+    constraint fk_cart_user_account foreign key (user_account_id) references user_account (id),
+    constraint fk_cart_product_option foreign key (product_option_id) references product_option (id)
+) engine = InnoDB;
+
+create table cart_summary (
+    user_account_id bigint not null,
+    total_price     bigint not null,
+    item_count      bigint not null,
+    primary key (user_account_id)
+) engine = InnoDB;
+
+create table order_detail (
+    id              bigint      not null auto_increment,
+    user_account_id bigint,
+    created_at      datetime(6),
+    primary key (id),
+    constraint fk_order_detail_user_account foreign key (user_account_id) references user_account (id)
+) engine = InnoDB;
+
+create table order_item (
+    id                bigint       not null auto_increment,
+    order_detail_id   bigint,
+    product_option_id bigint,
+    product_id        bigint       not null,
+    product_name      varchar(255) not null,
+    option_name       varchar(255) not null,
+    unit_price        bigint       not null,
+    quantity          bigint       not null,
+    price             bigint       not null,
+    created_at        datetime(6),
+    modified_at       datetime(6),
+    primary key (id),
+    constraint fk_order_item_order_detail foreign key (order_detail_id) references order_detail (id),
+    constraint fk_order_item_product_option foreign key (product_option_id) references product_option (id)
+) engine = InnoDB;
@@ -0,0 +1,23 @@
+-- repository 조회 조건에 맞춘 index. 조건 컬럼 뒤에 id 를 두어 id 정렬과 범위 조회도 index 만으로 처리한다.
+-- 외래 키 컬럼의 index 도 이름을 붙여 직접 만들며, 이때 MySQL 이 외래 키용으로 자동 생성한 index 는 제거된다.
+
+-- CartRepository.findAllByUserAccountId, deleteAllByUserAccountId, sumByUserAccountId 는 uk_cart_user_option 의 앞 컬럼을 사용한다.
+create index idx_cart_product_option on cart (product_option_id);
+
+-- OptionRepository.findAllByProductId, findStocksByProductId
+-- 재고는 주문마다 바뀌므로 index 에 포함하지 않고 primary key 로 읽는다.
+create index idx_product_option_product on product_option (product_id);
+create index idx_product_option_created_by on product_option (created_by_id);
+create index idx_product_option_modified_by on product_option (modified_by_id);
+
+create index idx_product_created_by on product (created_by_id);
+create index idx_product_modified_by on product (modified_by_id);
+
+-- OrderDetailRepository.findIdsByUserAccountIdBefore : user_account_id = ? and id < ? order by id desc
+create index idx_order_detail_user_account on order_detail (user_account_id, id);
+
+-- OrderItemRepository.findAllByOrderDetail, findHistoryRowsByOrderIds : order_detail_id in (...) order by order_detail_id desc, id
+create index idx_order_item_order_detail on order_item (order_detail_id, id);
+create index idx_order_item_product_option on order_item (product_option_id);
+
+-- UserAccountRepository.findByEmailAndProvider : email 이 unique 이므로 uk_user_account_email 로 한 행을 찾은 뒤 provider 를 비교한다.
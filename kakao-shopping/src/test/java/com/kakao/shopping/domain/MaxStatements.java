@@ -0,0 +1,19 @@
+package com.kakao.shopping.domain;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+테스트 메서드 본문에서 실행되는 JDBC statement 수의 상한을 정한다.
+@BeforeEach 에서 준비한 데이터는 세지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementCountExtension.class)
+public @interface MaxStatements {
+    long value();
+}
@@ -0,0 +1,81 @@
+package com.kakao.shopping.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청 경로와 서비스 메서드 이름이 노출되므로 관리자만 scrape 할 수 있다.
+@DisplayName("Prometheus Metrics Test")
+@WithMockUser(roles = "ADMIN")
+@AutoConfigureMetrics
+@AutoConfigureMockMvc
+@SpringBootTest
+public class PrometheusMetricsTest {
+    private final MockMvc mockMvc;
+
+    public PrometheusMetricsTest(@Autowired MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @DisplayName("GET /actuator/prometheus : 요청과 서비스 메서드의 SLO bucket 을 내보낸다")
+    @Test
+    public void endpoint_and_service_histogram_test() throws Exception {
+        // given
+        mockMvc.perform(get("/product/1"));
+
+        // when
+        String scrape = scrape();
+
+        // then
+        assertThat(scrape).contains("http_server_requests_seconds_bucket{exception=\"None\",method=\"GET\"");
+        assertThat(scrape).contains("uri=\"/product/{id}\",le=\"0.05\"");
+        assertThat(scrape).contains("service_method_seconds_bucket{class=\"ProductService\",exception=\"none\",method=\"findProductResponseById\",le=\"0.05\"");
+    }
+
+    @DisplayName("GET /actuator/prometheus : 주문 단계별 timer 와 connection pool 대기 시간을 내보낸다")
+    @Test
+    public void checkout_stage_and_pool_test() throws Exception {
+        // when
+        String scrape = scrape();
+
+        // then
+        for (String stage : new String[]{"cart_load", "stock_check", "stock_update", "cart_clear", "order_insert"}) {
+            assertThat(scrape).contains("checkout_stage_seconds_count{stage=\"" + stage + "\"");
+        }
+        assertThat(scrape).contains("hikaricp_connections_acquire_seconds_bucket");
+        assertThat(scrape).contains("hikaricp_connections_pending");
+    }
+
+    @DisplayName("GET /actuator/prometheus : 인증되지 않은 요청은 거부한다")
+    @WithAnonymousUser
+    @Test
+    public void anonymous_scrape_test() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/actuator/prometheus"));
+
+        // then
+        resultActions.andExpect(status().isUnauthorized());
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+}
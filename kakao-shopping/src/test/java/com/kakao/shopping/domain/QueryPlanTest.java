@@ -0,0 +1,138 @@
+package com.kakao.shopping.domain;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+migration 으로 만든 H2(MySQL mode) 스키마에서 repository 의 주요 조회를 EXPLAIN 하여,
+의도한 index 를 사용하고 전체 테이블을 읽지 않는지 확인한다.
+조회 조건이나 index 가 바뀌어 full scan 으로 돌아가면 실패한다.
+ */
+@DisplayName("Query Plan Test")
+public class QueryPlanTest {
+    private static final String TABLE_SCAN = "tableScan";
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    public static void setUp() {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:plan;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @DisplayName("CartRepository.findAllByUserAccountId : 사용자 id 로 장바구니를 찾는다")
+    @Test
+    public void cart_find_by_user_test() {
+        // given
+        String sql = "select c.id, c.product_option_id, c.quantity, c.price from cart c where c.user_account_id = 1";
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertIndexUsed(plan, "uk_cart_user_option");
+    }
+
+    @DisplayName("CartRepository.deleteAllByIdInAndUserAccountId : id 와 사용자 id 로 장바구니를 삭제한다")
+    @Test
+    public void cart_delete_by_ids_test() {
+        // given
+        String sql = "delete from cart where id in (1, 2, 3) and user_account_id = 1";
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("OptionRepository.findAllByProductId : 상품 id 로 옵션을 찾는다")
+    @Test
+    public void option_find_by_product_test() {
+        // given
+        String sql = "select o.id, o.name, o.price, o.stock from product_option o where o.product_id = 1";
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertIndexUsed(plan, "idx_product_option_product");
+    }
+
+    @DisplayName("OptionRepository.findAllByIdIn : 옵션 id 목록으로 옵션과 상품을 찾는다")
+    @Test
+    public void option_find_by_ids_test() {
+        // given
+        String sql = "select o.id, p.name from product_option o left join product p on p.id = o.product_id where o.id in (1, 2, 3)";
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("OrderDetailRepository.findIdsByUserAccountIdBefore : 사용자의 주문 id 를 최신순으로 찾는다")
+    @Test
+    public void order_detail_find_by_user_test() {
+        // given
+        String sql = "select o.id from order_detail o where o.user_account_id = 1 and o.id < 100 order by o.id desc limit 11";
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertIndexUsed(plan, "idx_order_detail_user_account");
+    }
+
+    @DisplayName("OrderItemRepository.findHistoryRowsByOrderIds : 주문 id 목록으로 주문 상품을 찾는다")
+    @Test
+    public void order_item_find_by_order_ids_test() {
+        // given
+        String sql = "select i.order_detail_id, i.product_id, i.product_name, i.option_name, i.quantity, i.price from order_item i "
+                + "where i.order_detail_id in (1, 2, 3) order by i.order_detail_id desc, i.id";
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertIndexUsed(plan, "idx_order_item_order_detail");
+    }
+
+    @DisplayName("UserAccountRepository.findByEmailAndProvider : email 과 provider 로 사용자를 찾는다")
+    @Test
+    public void user_find_by_email_and_provider_test() {
+        // given
+        String sql = "select u.id from user_account u where u.email = 'moon@naver.com' and u.provider = 'kakao'";
+
+        // when
+        String plan = explain(sql);
+
+        // then
+        assertIndexUsed(plan, "uk_user_account_email");
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private static String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+
+    private static void assertIndexUsed(String plan, String indexName) {
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+        assertThat(plan).containsIgnoringCase(indexName);
+    }
+}
@@ -0,0 +1,174 @@
+package com.kakao.shopping.domain;
+
+import com.kakao.shopping.dto.cart.request.CartDeleteRequest;
+import com.kakao.shopping.dto.cart.request.CartInsertRequest;
+import com.kakao.shopping.dto.cart.request.CartUpdateRequest;
+import com.kakao.shopping.dto.order.OrderDTO;
+import com.kakao.shopping.repository.CartRepository;
+import com.kakao.shopping.repository.OptionRepository;
+import com.kakao.shopping.repository.ProductRepository;
+import com.kakao.shopping.repository.UserAccountRepository;
+import com.kakao.shopping.service.CartService;
+import com.kakao.shopping.service.OrderService;
+import com.kakao.shopping.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+주요 서비스 메서드가 실행하는 statement 수의 상한을 고정한다.
+N+1 이 생기면 상한을 넘으므로, 상한을 올려야 한다면 먼저 새로 생긴 쿼리가 필요한지 확인한다.
+ */
+@DisplayName("Service Statement Count Test")
+@SpringBootTest
+public class ServiceStatementCountTest {
+    private static final int OPTION_COUNT = 10;
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    private final CartService cartService;
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final UserAccountRepository userAccountRepository;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final CartRepository cartRepository;
+
+    private UserAccount userAccount;
+    private Product product;
+    private List<ProductOption> options;
+    private List<Cart> carts;
+
+    public ServiceStatementCountTest(
+            @Autowired CartService cartService,
+            @Autowired OrderService orderService,
+            @Autowired ProductService productService,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ProductRepository productRepository,
+            @Autowired OptionRepository optionRepository,
+            @Autowired CartRepository cartRepository
+    ) {
+        this.cartService = cartService;
+        this.orderService = orderService;
+        this.productService = productService;
+        this.userAccountRepository = userAccountRepository;
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.cartRepository = cartRepository;
+    }
+
+    // 옵션 절반을 장바구니에 담아 합계 행까지 만들어 둔다. 담긴 장바구니는 측정 전에 미리 읽어 둔다.
+    @BeforeEach
+    public void setUp() {
+        int sequence = USER_SEQUENCE.incrementAndGet();
+        userAccount = userAccountRepository.save(
+                UserAccount.builder()
+                        .name("statement" + sequence)
+                        .email("statement-" + UUID.randomUUID() + "@kakao.com")
+                        .password("qwer1234!")
+                        .birthdate(LocalDate.of(2000, 1, 1))
+                        .build()
+        );
+        product = productRepository.save(Product.of("statement " + sequence, "", "images/statement", 1000L, userAccount));
+        options = optionRepository.saveAll(
+                IntStream.range(0, OPTION_COUNT)
+                        .mapToObj(i -> ProductOption.builder()
+                                .product(product)
+                                .name("option " + i)
+                                .price(1000L)
+                                .stock(100L)
+                                .userAccount(userAccount)
+                                .build())
+                        .toList()
+        );
+        cartService.addCartList(insertRequests(0, OPTION_COUNT / 2), userAccount);
+        carts = cartRepository.findAllByUserAccountId(userAccount.getId()).orElseThrow();
+    }
+
+    @DisplayName("장바구니 조회는 장바구니와 합계만 읽는다")
+    @MaxStatements(2)
+    @Test
+    public void cart_find_all_test() {
+        assertThat(cartService.findAll(userAccount).products()).hasSize(1);
+    }
+
+    @DisplayName("장바구니 담기는 담는 옵션 수와 관계없이 일정하다")
+    @MaxStatements(3)
+    @Test
+    public void cart_add_test() {
+        cartService.addCartList(insertRequests(OPTION_COUNT / 2, OPTION_COUNT), userAccount);
+    }
+
+    @DisplayName("장바구니 수정은 수정하는 줄 수와 관계없이 일정하다")
+    @MaxStatements(5)
+    @Test
+    public void cart_update_test() {
+        List<CartUpdateRequest> requests = carts
+                .stream()
+                .map(cart -> new CartUpdateRequest(cart.getId(), 3L))
+                .toList();
+
+        assertThat(cartService.update(requests, userAccount).totalPrice()).isEqualTo(15000L);
+    }
+
+    @DisplayName("장바구니 삭제는 삭제하는 줄 수와 관계없이 일정하다")
+    @MaxStatements(5)
+    @Test
+    public void cart_delete_test() {
+        List<CartDeleteRequest> requests = carts
+                .stream()
+                .map(cart -> new CartDeleteRequest(cart.getId()))
+                .toList();
+
+        cartService.delete(requests, userAccount);
+    }
+
+    @DisplayName("주문은 장바구니 크기와 관계없이 일정하다")
+    @MaxStatements(7)
+    @Test
+    public void order_save_test() {
+        assertThat(orderService.save(userAccount).products()).hasSize(1);
+    }
+
+    @DisplayName("주문 상세와 주문 목록 조회는 주문 상품 수와 관계없이 일정하다")
+    @MaxStatements(7 + 2 + 2)
+    @Test
+    public void order_find_test() {
+        OrderDTO order = orderService.save(userAccount);
+
+        assertThat(orderService.findById(order.id(), userAccount).products()).hasSize(1);
+        assertThat(orderService.findOrders(userAccount, null, 10).orders()).hasSize(1);
+    }
+
+    @DisplayName("상품 상세 조회는 캐시가 비어 있어도 옵션 수와 관계없이 일정하다")
+    @MaxStatements(3)
+    @Test
+    public void product_find_by_id_test() {
+        assertThat(productService.findProductById(product.getId()).productOptions()).hasSize(OPTION_COUNT);
+    }
+
+    @DisplayName("상품 목록 조회는 등록자를 함께 읽어 한 번에 끝난다")
+    @MaxStatements(1)
+    @Test
+    public void product_find_after_test() {
+        assertThat(productService.findProductsAfter(null, 9).products()).hasSize(9);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private List<CartInsertRequest> insertRequests(int from, int to) {
+        return options.subList(from, to)
+                .stream()
+                .map(option -> new CartInsertRequest(option.getId(), 1L))
+                .toList();
+    }
+}
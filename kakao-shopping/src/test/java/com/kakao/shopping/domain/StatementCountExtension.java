@@ -0,0 +1,29 @@
+package com.kakao.shopping.domain;
+
+import com.kakao.shopping._core.statement.StatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// @MaxStatements 가 붙은 테스트의 statement 수를 세어 상한을 넘으면 실패시킨다.
+public class StatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        StatementCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long count = StatementCounter.stop();
+        MaxStatements maxStatements = context.getRequiredTestMethod().getAnnotation(MaxStatements.class);
+        if (maxStatements == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        assertThat(count)
+                .as("%s 에서 실행된 statement 수", context.getDisplayName())
+                .isLessThanOrEqualTo(maxStatements.value());
+    }
+}
@@ -1,9 +1,19 @@
 package com.kakao.shopping.domain.cart;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.shopping._core.security.CustomUserDetails;
+import com.kakao.shopping._core.statement.StatementCountAdvice;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.domain.UserAccount;
 import com.kakao.shopping.dto.cart.request.CartDeleteRequest;
 import com.kakao.shopping.dto.cart.request.CartInsertRequest;
 import com.kakao.shopping.dto.cart.request.CartUpdateRequest;
+import com.kakao.shopping.dto.product.request.OptionUpdateRequest;
+import com.kakao.shopping.repository.OptionRepository;
+import com.kakao.shopping.repository.ProductRepository;
+import com.kakao.shopping.repository.UserAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +24,15 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 @DisplayName("Cart Controller Test")
@@ -25,13 +41,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class CartControllerTest {
     private final MockMvc mockMvc;
     private final ObjectMapper objectMapper;
+    private final UserAccountRepository userAccountRepository;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
 
     public CartControllerTest(
             @Autowired MockMvc mockMvc,
-            @Autowired ObjectMapper objectMapper
+            @Autowired ObjectMapper objectMapper,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ProductRepository productRepository,
+            @Autowired OptionRepository optionRepository
     ) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
+        this.userAccountRepository = userAccountRepository;
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
     }
 
     @DisplayName("GET /cart : success")
@@ -49,6 +74,8 @@ public class CartControllerTest {
         resultActions.andExpect(jsonPath("$.success").value("true"));
         resultActions.andExpect(jsonPath("$.response.products[0].name").value("기본에 슬라이딩 지퍼백 크리스마스/플라워에디션 에디션 외 주방용품 특가전"));
         resultActions.andExpect(jsonPath("$.response.products[0].carts[0].option.name").value("01. 슬라이딩 지퍼백 크리스마스에디션 4종"));
+
+        resultActions.andExpect(header().exists(StatementCountAdvice.HEADER));
     }
 
     @DisplayName("POST /cart : success")
@@ -70,6 +97,89 @@ public class CartControllerTest {
         resultActions.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @DisplayName("GET /cart : success - 장바구니 추가가 캐시된 조회 결과에 반영된다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void find_cart_after_insert_test() throws Exception {
+        // given
+        long optionId = 12L;
+        JsonNode before = findCart();
+        List<CartInsertRequest> requests = List.of(new CartInsertRequest(optionId, 3L));
+        mockMvc.perform(
+                post("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests))
+        );
+
+        // when
+        JsonNode after = findCart();
+
+        // then
+        JsonNode item = findItem(after, optionId);
+        assertThat(item).isNotNull();
+        long optionPrice = item.at("/option/price").asLong();
+        assertThat(after.at("/totalPrice").asLong()).isEqualTo(before.at("/totalPrice").asLong() + optionPrice * 3);
+    }
+
+    @DisplayName("POST /cart : success - 같은 옵션을 다시 담으면 한 줄의 수량이 늘어난다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void insert_cart_same_option_test() throws Exception {
+        // given
+        long optionId = 13L;
+        JsonNode before = findItem(findCart(), optionId);
+        long previousQuantity = before == null ? 0L : before.at("/quantity").asLong();
+        String requestBody = objectMapper.writeValueAsString(List.of(new CartInsertRequest(optionId, 2L)));
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                    post("/cart")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody)
+            );
+        }
+
+        // then
+        JsonNode cart = findCart();
+        long lineCount = 0L;
+        for (JsonNode product : cart.at("/products")) {
+            for (JsonNode item : product.at("/carts")) {
+                if (item.at("/id").asLong() == optionId) {
+                    lineCount++;
+                }
+            }
+        }
+        assertThat(lineCount).isEqualTo(1L);
+        assertThat(findItem(cart, optionId).at("/quantity").asLong()).isEqualTo(previousQuantity + 4L);
+    }
+
+    @DisplayName("GET /cart : success - 장바구니 수정이 캐시된 조회 결과에 반영된다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void find_cart_after_update_test() throws Exception {
+        // given
+        findCart();
+        List<CartUpdateRequest> requests = List.of(new CartUpdateRequest(1L, 7L));
+        String updated = mockMvc.perform(
+                        put("/cart")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests))
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        long optionId = objectMapper.readTree(updated).at("/response/carts/0/productOptionId").asLong();
+
+        // when
+        JsonNode cart = findCart();
+
+        // then
+        JsonNode item = findItem(cart, optionId);
+        assertThat(item).isNotNull();
+        assertThat(item.at("/quantity").asLong()).isEqualTo(7L);
+    }
+
     @DisplayName("PUT /cart : success")
     @WithUserDetails(value = "moon@naver.com")
     @Test
@@ -89,6 +199,35 @@ public class CartControllerTest {
         resultActions.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @DisplayName("PUT /cart : success - 응답의 합계는 수정한 장바구니가 아닌 전체 장바구니의 합계이다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void update_cart_total_price_test() throws Exception {
+        // given
+        List<CartUpdateRequest> requests = List.of(new CartUpdateRequest(1L, 3L));
+
+        // when
+        String updated = mockMvc.perform(
+                        put("/cart")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests))
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        JsonNode cart = findCart();
+        long totalPrice = 0L;
+        for (JsonNode product : cart.at("/products")) {
+            for (JsonNode item : product.at("/carts")) {
+                totalPrice += item.at("/price").asLong();
+            }
+        }
+        assertThat(objectMapper.readTree(updated).at("/response/totalPrice").asLong()).isEqualTo(totalPrice);
+        assertThat(cart.at("/totalPrice").asLong()).isEqualTo(totalPrice);
+    }
+
     @DisplayName("DELETE /cart : success")
     @WithUserDetails(value = "moon@naver.com")
     @Test
@@ -107,4 +246,95 @@ public class CartControllerTest {
         // then
         resultActions.andExpect(jsonPath("$.success").value("true"));
     }
+
+    @DisplayName("DELETE /cart : success - 빈 목록")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void delete_cart_success_test_empty() throws Exception {
+        // given
+        String requestBody = objectMapper.writeValueAsString(List.of());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                delete("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+    }
+
+    @DisplayName("DELETE /cart : fail - 존재하지 않거나 다른 계정의 장바구니")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void delete_cart_fail_test_not_owned() throws Exception {
+        // given
+        List<CartDeleteRequest> requests = List.of(new CartDeleteRequest(999999L));
+        String requestBody = objectMapper.writeValueAsString(requests);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                delete("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("false"));
+    }
+
+    @DisplayName("GET /cart : success - 판매자가 옵션을 수정하면 캐시된 조회 결과에 반영된다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void find_cart_after_seller_update_test() throws Exception {
+        // given
+        UserAccount seller = userAccountRepository.save(
+                UserAccount.builder().name("seller").email("seller-" + UUID.randomUUID() + "@kakao.com").password("qwer1234!").birthdate(LocalDate.of(2000, 1, 1)).build()
+        );
+        Product product = productRepository.save(Product.of("before product", "", "images/seller", 1000L, seller));
+        ProductOption option = optionRepository.save(
+                ProductOption.builder().product(product).name("before option").price(1000L).stock(100L).userAccount(seller).build()
+        );
+        mockMvc.perform(
+                post("/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new CartInsertRequest(option.getId(), 1L))))
+        );
+        assertThat(findItem(findCart(), option.getId()).at("/option/name").asText()).isEqualTo("before option");
+
+        // when
+        mockMvc.perform(
+                put("/product/option/" + option.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OptionUpdateRequest("after option", 2000L)))
+                        .with(user(new CustomUserDetails(seller)))
+        );
+
+        // then
+        JsonNode item = findItem(findCart(), option.getId());
+        assertThat(item.at("/option/name").asText()).isEqualTo("after option");
+        assertThat(item.at("/option/price").asLong()).isEqualTo(2000L);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private JsonNode findCart() throws Exception {
+        String response = mockMvc.perform(get("/cart"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(response).at("/response");
+    }
+
+    private static JsonNode findItem(JsonNode cart, long optionId) {
+        for (JsonNode product : cart.at("/products")) {
+            for (JsonNode item : product.at("/carts")) {
+                if (item.at("/id").asLong() == optionId) {
+                    return item;
+                }
+            }
+        }
+        return null;
+    }
 }
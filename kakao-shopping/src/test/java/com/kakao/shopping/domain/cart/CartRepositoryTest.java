@@ -51,7 +51,7 @@ public class CartRepositoryTest {
     public void insert_test() {
         // given
         long previous_count = cartRepository.count();
-        ProductOption option = optionRepository.findById(1L).orElseThrow();
+        ProductOption option = saveOption("cart insert test");
         Long quantity = 5L;
         Cart cart = Cart.builder()
                 .userAccount(userDetails.getUserAccount())
@@ -66,6 +66,27 @@ public class CartRepositoryTest {
         assertThat(cartRepository.count()).isEqualTo(previous_count + 1);
     }
 
+    @DisplayName("upsert test - 같은 옵션을 다시 담으면 한 줄에 수량과 금액을 더한다")
+    @Test
+    public void upsert_test() {
+        // given
+        ProductOption option = saveOption("cart upsert test");
+        Long userId = userDetails.getUserAccount().getId();
+        cartRepository.upsertAll(List.of(newCart(option, 2L)));
+
+        // when
+        cartRepository.upsertAll(List.of(newCart(option, 3L)));
+
+        // then
+        List<Cart> carts = cartRepository.findAllByUserAccountId(userId).orElseThrow()
+                .stream()
+                .filter(cart -> cart.getProductOption().getId().equals(option.getId()))
+                .toList();
+        assertThat(carts).hasSize(1);
+        assertThat(carts.get(0).getQuantity()).isEqualTo(5L);
+        assertThat(carts.get(0).getPrice()).isEqualTo(option.getPrice() * 5L);
+    }
+
     @DisplayName("select test")
     @Test
     public void select_test() {
@@ -115,4 +136,20 @@ public class CartRepositoryTest {
         // then
         assertThat(cartRepository.count()).isEqualTo(previous_count - 1);
     }
+
+    // ------------------------------------------------------------------------------------------
+
+    // 사용자별 옵션은 한 줄만 담기므로 아직 담기지 않은 새 옵션을 만든다.
+    private ProductOption saveOption(String name) {
+        ProductOption option = optionRepository.findById(1L).orElseThrow();
+        return optionRepository.save(ProductOption.of(option.getProduct(), name, 1000L, userDetails.getUserAccount()));
+    }
+
+    private Cart newCart(ProductOption option, Long quantity) {
+        return Cart.builder()
+                .userAccount(userDetails.getUserAccount())
+                .productOption(option)
+                .quantity(quantity)
+                .build();
+    }
 }
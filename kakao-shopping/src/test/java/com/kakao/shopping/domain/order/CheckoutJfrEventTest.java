@@ -0,0 +1,144 @@
+package com.kakao.shopping.domain.order;
+
+import com.kakao.shopping._core.jfr.CartStageEvent;
+import com.kakao.shopping._core.jfr.CheckoutStageEvent;
+import com.kakao.shopping._core.jfr.JfrRecordingEndpoint;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.domain.UserAccount;
+import com.kakao.shopping.dto.cart.request.CartInsertRequest;
+import com.kakao.shopping.repository.OptionRepository;
+import com.kakao.shopping.repository.ProductRepository;
+import com.kakao.shopping.repository.UserAccountRepository;
+import com.kakao.shopping.service.CartService;
+import com.kakao.shopping.service.OrderService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Checkout JFR Event Test")
+@SpringBootTest
+public class CheckoutJfrEventTest {
+    private final CartService cartService;
+    private final OrderService orderService;
+    private final JfrRecordingEndpoint jfrRecordingEndpoint;
+    private final UserAccountRepository userAccountRepository;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+
+    public CheckoutJfrEventTest(
+            @Autowired CartService cartService,
+            @Autowired OrderService orderService,
+            @Autowired JfrRecordingEndpoint jfrRecordingEndpoint,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ProductRepository productRepository,
+            @Autowired OptionRepository optionRepository
+    ) {
+        this.cartService = cartService;
+        this.orderService = orderService;
+        this.jfrRecordingEndpoint = jfrRecordingEndpoint;
+        this.userAccountRepository = userAccountRepository;
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+    }
+
+    @DisplayName("장바구니 담기와 주문의 각 단계가 JFR event 로 기록된다")
+    @Test
+    public void stage_event_test() throws Exception {
+        // given
+        UserAccount userAccount = userAccountRepository.save(
+                UserAccount.builder()
+                        .name("jfr")
+                        .email("jfr-" + UUID.randomUUID() + "@kakao.com")
+                        .password("qwer1234!")
+                        .birthdate(LocalDate.of(2000, 1, 1))
+                        .build()
+        );
+        Product product = productRepository.save(Product.of("jfr", "", "images/jfr", 1000L, userAccount));
+        List<ProductOption> options = optionRepository.saveAll(
+                IntStream.range(0, 3)
+                        .mapToObj(i -> ProductOption.builder()
+                                .product(product)
+                                .name("option " + i)
+                                .price(1000L)
+                                .stock(100L)
+                                .userAccount(userAccount)
+                                .build())
+                        .toList()
+        );
+        List<CartInsertRequest> requests = options.stream()
+                .map(option -> new CartInsertRequest(option.getId(), 2L))
+                .toList();
+        Path file = Files.createTempFile("checkout-", ".jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable(CartStageEvent.NAME);
+            recording.enable(CheckoutStageEvent.NAME);
+            recording.start();
+            cartService.addCartList(requests, userAccount);
+            orderService.save(userAccount);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file)
+                .stream()
+                .filter(event -> event.getLong("userId") == userAccount.getId())
+                .toList();
+        Files.deleteIfExists(file);
+
+        // then
+        assertThat(events)
+                .extracting(event -> event.getString("stage"))
+                .containsExactly("option_load", "summary_update", "cart_upsert", "cart_load", "stock_check", "stock_update", "cart_clear", "order_insert");
+        assertThat(events).allSatisfy(event -> assertThat(event.getInt("lineCount")).isEqualTo(3));
+        RecordedEvent stockUpdate = events.get(5);
+        assertThat(stockUpdate.getEventType().getName()).isEqualTo(CheckoutStageEvent.NAME);
+        assertThat(stockUpdate.getLong("rowsUpdated")).isEqualTo(3L);
+        assertThat(stockUpdate.getString("optionIds").split(",")).hasSize(3);
+    }
+
+    @DisplayName("/actuator/jfr : recording 을 시작하고 내려받는다")
+    @Test
+    public void endpoint_test() throws Exception {
+        try {
+            // when
+            Map<String, Object> status = jfrRecordingEndpoint.start(10_000L);
+            WebEndpointResponse<Resource> response = jfrRecordingEndpoint.dump();
+
+            // then
+            assertThat(status).containsEntry("state", "RUNNING");
+            assertThat(status).containsEntry("duration", 300L);
+            assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+            Resource body = response.getBody();
+            assertThat(body.contentLength()).isPositive();
+            try (InputStream input = body.getInputStream()) {
+                assertThat(input.read()).isNotEqualTo(-1);
+            }
+            // 응답을 다 보내면 임시 파일은 지워진다.
+            assertThat(body.exists()).isFalse();
+        }
+        finally {
+            jfrRecordingEndpoint.close();
+        }
+
+        assertThat(jfrRecordingEndpoint.dump().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
@@ -0,0 +1,129 @@
+package com.kakao.shopping.domain.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.shopping._core.security.CustomUserDetails;
+import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.domain.UserAccount;
+import com.kakao.shopping.dto.order.OrderDTO;
+import com.kakao.shopping.repository.CartRepository;
+import com.kakao.shopping.repository.OptionRepository;
+import com.kakao.shopping.repository.ProductRepository;
+import com.kakao.shopping.repository.UserAccountRepository;
+import com.kakao.shopping.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+@DisplayName("Order Controller Test")
+@AutoConfigureMockMvc
+@SpringBootTest
+public class OrderControllerTest {
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final OrderService orderService;
+    private final UserAccountRepository userAccountRepository;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final CartRepository cartRepository;
+
+    public OrderControllerTest(
+            @Autowired MockMvc mockMvc,
+            @Autowired ObjectMapper objectMapper,
+            @Autowired OrderService orderService,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ProductRepository productRepository,
+            @Autowired OptionRepository optionRepository,
+            @Autowired CartRepository cartRepository
+    ) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+        this.orderService = orderService;
+        this.userAccountRepository = userAccountRepository;
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.cartRepository = cartRepository;
+    }
+
+    @DisplayName("GET /order : success")
+    @Test
+    public void find_orders_success_test() throws Exception {
+        // given
+        UserAccount userAccount = userAccountRepository.save(
+                UserAccount.builder().name("history").email("history-" + UUID.randomUUID() + "@kakao.com").password("qwer1234!").birthdate(LocalDate.of(2000, 1, 1)).build()
+        );
+        Product product = productRepository.save(Product.of("history product", "", "images/history", 1000L, userAccount));
+        ProductOption option = optionRepository.save(
+                ProductOption.builder().product(product).name("history option").price(1000L).stock(100L).userAccount(userAccount).build()
+        );
+        for (int i = 0; i < 11; i++) {
+            cartRepository.save(Cart.builder().userAccount(userAccount).productOption(option).quantity(1L).build());
+            orderService.save(userAccount);
+        }
+        CustomUserDetails userDetails = new CustomUserDetails(userAccount);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/order").with(user(userDetails))
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.orders.length()").value(10));
+        resultActions.andExpect(jsonPath("$.response.orders[0].products[0].name").value("history product"));
+        resultActions.andExpect(jsonPath("$.response.orders[0].products[0].items[0].name").value("history option"));
+        resultActions.andExpect(jsonPath("$.response.orders[0].totalPrice").value(1000));
+        resultActions.andExpect(jsonPath("$.response.nextCursor").isNotEmpty());
+
+        String cursor = objectMapper.readTree(resultActions.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .at("/response/nextCursor")
+                .asText();
+        ResultActions nextResultActions = mockMvc.perform(
+                get("/order").param("cursor", cursor).with(user(userDetails))
+        );
+        nextResultActions.andExpect(jsonPath("$.response.orders.length()").value(1));
+        nextResultActions.andExpect(jsonPath("$.response.nextCursor").isEmpty());
+    }
+
+    @DisplayName("GET /order/{id} : success - 주문 후 옵션 이름이 바뀌어도 주문 시점의 이름을 보여준다")
+    @Test
+    public void find_order_snapshot_test() throws Exception {
+        // given
+        UserAccount userAccount = userAccountRepository.save(
+                UserAccount.builder().name("snapshot").email("snapshot-" + UUID.randomUUID() + "@kakao.com").password("qwer1234!").birthdate(LocalDate.of(2000, 1, 1)).build()
+        );
+        Product product = productRepository.save(Product.of("snapshot product", "", "images/snapshot", 1000L, userAccount));
+        ProductOption option = optionRepository.save(
+                ProductOption.builder().product(product).name("before rename").price(1000L).stock(100L).userAccount(userAccount).build()
+        );
+        cartRepository.save(Cart.builder().userAccount(userAccount).productOption(option).quantity(2L).build());
+        OrderDTO order = orderService.save(userAccount);
+
+        option.updateName(userAccount, "after rename");
+        optionRepository.save(option);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/order/" + order.id()).with(user(new CustomUserDetails(userAccount)))
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.products[0].name").value("snapshot product"));
+        resultActions.andExpect(jsonPath("$.response.products[0].items[0].name").value("before rename"));
+        resultActions.andExpect(jsonPath("$.response.totalPrice").value(2000));
+    }
+}
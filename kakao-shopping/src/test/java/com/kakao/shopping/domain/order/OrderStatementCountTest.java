@@ -0,0 +1,111 @@
+package com.kakao.shopping.domain.order;
+
+import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.domain.UserAccount;
+import com.kakao.shopping.dto.order.OrderDTO;
+import com.kakao.shopping.repository.CartRepository;
+import com.kakao.shopping.repository.OptionRepository;
+import com.kakao.shopping.repository.ProductRepository;
+import com.kakao.shopping.repository.UserAccountRepository;
+import com.kakao.shopping.service.OrderService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Order Statement Count Test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class OrderStatementCountTest {
+    // 장바구니 합계 초기화, 장바구니 조회(lock), 옵션 조회, 재고 차감, 장바구니 삭제, 주문 저장, 주문 상품 저장
+    private static final long CHECKOUT_STATEMENT_COUNT = 7L;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final OrderService orderService;
+    private final UserAccountRepository userAccountRepository;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final CartRepository cartRepository;
+
+    public OrderStatementCountTest(
+            @Autowired EntityManagerFactory entityManagerFactory,
+            @Autowired OrderService orderService,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ProductRepository productRepository,
+            @Autowired OptionRepository optionRepository,
+            @Autowired CartRepository cartRepository
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.orderService = orderService;
+        this.userAccountRepository = userAccountRepository;
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.cartRepository = cartRepository;
+    }
+
+    @DisplayName("주문 시 실행되는 statement 수는 장바구니 크기와 관계없이 일정하다")
+    @Test
+    public void checkout_statement_count_test() {
+        // given
+        List<Integer> cartSizes = List.of(1, 10, 60);
+
+        // when
+        List<Long> statementCounts = new ArrayList<>();
+        for (int cartSize : cartSizes) {
+            statementCounts.add(countCheckoutStatements(cartSize));
+        }
+
+        // then
+        assertThat(statementCounts).containsOnly(CHECKOUT_STATEMENT_COUNT);
+    }
+
+    private long countCheckoutStatements(int cartSize) {
+        UserAccount userAccount = userAccountRepository.save(
+                UserAccount.builder()
+                        .name("checkout" + cartSize)
+                        .email("checkout-" + UUID.randomUUID() + "@kakao.com")
+                        .password("qwer1234!")
+                        .birthdate(LocalDate.of(2000, 1, 1))
+                        .build()
+        );
+        Product product = productRepository.save(Product.of("checkout " + cartSize, "", "images/checkout", 1000L, userAccount));
+        List<ProductOption> options = optionRepository.saveAll(
+                IntStream.range(0, cartSize)
+                        .mapToObj(i -> ProductOption.builder()
+                                .product(product)
+                                .name("option " + i)
+                                .price(1000L)
+                                .stock(100L)
+                                .userAccount(userAccount)
+                                .build())
+                        .toList()
+        );
+        cartRepository.saveAll(
+                options.stream()
+                        .map(option -> Cart.builder().userAccount(userAccount).productOption(option).quantity(2L).build())
+                        .toList()
+        );
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        OrderDTO order = orderService.save(userAccount);
+        long statementCount = statistics.getPrepareStatementCount();
+
+        assertThat(order.products()).hasSize(1);
+        assertThat(order.products().get(0).items()).hasSize(cartSize);
+        assertThat(cartRepository.findAllByUserAccountId(userAccount.getId()).orElseThrow()).isEmpty();
+        return statementCount;
+    }
+}
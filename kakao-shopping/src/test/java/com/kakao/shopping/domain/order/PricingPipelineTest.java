@@ -0,0 +1,76 @@
+package com.kakao.shopping.domain.order;
+
+import com.kakao.shopping._core.pricing.CouponStage;
+import com.kakao.shopping._core.pricing.PricingLines;
+import com.kakao.shopping._core.pricing.PricingPipeline;
+import com.kakao.shopping._core.pricing.PricingPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Pricing Pipeline Test")
+public class PricingPipelineTest {
+    @DisplayName("규칙이 없으면 줄 금액은 단가 x 수량이다")
+    @Test
+    public void price_without_rules_test() {
+        // given
+        PricingPipeline pipeline = PricingPipeline.compile(new PricingPolicy(Map.of(), List.of()));
+        PricingLines lines = new PricingLines(2);
+        lines.add(1L, 1000L, 3L);
+        lines.add(2L, 2500L, 2L);
+
+        // when
+        long total = pipeline.price(lines);
+
+        // then
+        assertThat(total).isEqualTo(8000L);
+        assertThat(lines.amount(0)).isEqualTo(3000L);
+        assertThat(lines.amount(1)).isEqualTo(5000L);
+    }
+
+    @DisplayName("옵션 할인, 쿠폰을 순서대로 반영한다")
+    @Test
+    public void price_with_rules_test() {
+        // given
+        PricingPolicy policy = new PricingPolicy(
+                Map.of(1L, 1000),
+                List.of(new CouponStage.Tier(10000L, 1000L), new CouponStage.Tier(20000L, 3000L))
+        );
+        PricingPipeline pipeline = PricingPipeline.compile(policy);
+        PricingLines lines = new PricingLines(1);
+        lines.add(1L, 10000L, 1L);
+        lines.add(2L, 5000L, 1L);
+        lines.add(3L, 2000L, 1L);
+
+        // when
+        long total = pipeline.price(lines);
+
+        // then
+        // 할인 후 9000 + 5000 + 2000 = 16000, 쿠폰 1000 을 비율대로 나누어 15000
+        assertThat(total).isEqualTo(15000L);
+        assertThat(lines.amount(0) + lines.amount(1) + lines.amount(2)).isEqualTo(15000L);
+    }
+
+    @DisplayName("재사용한 줄 목록은 이전 계산 결과를 남기지 않는다")
+    @Test
+    public void price_reuse_lines_test() {
+        // given
+        PricingPipeline pipeline = PricingPipeline.compile(new PricingPolicy(Map.of(), List.of(new CouponStage.Tier(10000L, 1000L))));
+        PricingLines lines = new PricingLines(1);
+        lines.add(1L, 10000L, 1L);
+        pipeline.price(lines);
+
+        // when
+        lines.clear();
+        lines.add(2L, 5000L, 1L);
+        long total = pipeline.price(lines);
+
+        // then
+        assertThat(total).isEqualTo(5000L);
+        assertThat(lines.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.kakao.shopping.domain.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.shopping._core.pricing.PriceEngine;
+import com.kakao.shopping.domain.Cart;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.domain.UserAccount;
+import com.kakao.shopping.dto.order.OrderDTO;
+import com.kakao.shopping.dto.promotion.request.PromotionUpdateRequest;
+import com.kakao.shopping.repository.CartRepository;
+import com.kakao.shopping.repository.OptionRepository;
+import com.kakao.shopping.repository.ProductRepository;
+import com.kakao.shopping.repository.UserAccountRepository;
+import com.kakao.shopping.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Promotion Controller Test")
+@AutoConfigureMockMvc
+@SpringBootTest
+public class PromotionControllerTest {
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final PriceEngine priceEngine;
+    private final OrderService orderService;
+    private final UserAccountRepository userAccountRepository;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final CartRepository cartRepository;
+
+    public PromotionControllerTest(
+            @Autowired MockMvc mockMvc,
+            @Autowired ObjectMapper objectMapper,
+            @Autowired PriceEngine priceEngine,
+            @Autowired OrderService orderService,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ProductRepository productRepository,
+            @Autowired OptionRepository optionRepository,
+            @Autowired CartRepository cartRepository
+    ) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+        this.priceEngine = priceEngine;
+        this.orderService = orderService;
+        this.userAccountRepository = userAccountRepository;
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.cartRepository = cartRepository;
+    }
+
+    // 다른 테스트의 주문 금액에 영향을 주지 않도록 프로모션을 비운다.
+    @AfterEach
+    public void tearDown() {
+        priceEngine.updatePromotions(Map.of(), List.of());
+    }
+
+    @DisplayName("PUT /admin/promotion : success - 이후 주문에 옵션 할인과 쿠폰이 반영된다")
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    public void update_promotions_success_test() throws Exception {
+        // given
+        UserAccount userAccount = userAccountRepository.save(
+                UserAccount.builder().name("promotion").email("promotion-" + UUID.randomUUID() + "@kakao.com").password("qwer1234!").birthdate(LocalDate.of(2000, 1, 1)).build()
+        );
+        Product product = productRepository.save(Product.of("promotion product", "", "images/promotion", 10000L, userAccount));
+        ProductOption option = optionRepository.save(
+                ProductOption.builder().product(product).name("promotion option").price(10000L).stock(100L).userAccount(userAccount).build()
+        );
+        cartRepository.save(Cart.builder().userAccount(userAccount).productOption(option).quantity(2L).build());
+        PromotionUpdateRequest request = new PromotionUpdateRequest(
+                Map.of(option.getId(), 1000),
+                List.of(new PromotionUpdateRequest.CouponTier(10000L, 1000L))
+        );
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                put("/admin/promotion")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        // 20000 에서 10% 할인 후 18000, 쿠폰 1000 을 빼서 17000
+        OrderDTO order = orderService.save(userAccount);
+        assertThat(order.totalPrice()).isEqualTo(17000L);
+    }
+
+    @DisplayName("PUT /admin/promotion : fail - 할인율이 10000 을 넘으면 거부한다")
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    public void update_promotions_invalid_discount_test() throws Exception {
+        // given
+        PromotionUpdateRequest request = new PromotionUpdateRequest(Map.of(1L, 10001), List.of());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                put("/admin/promotion")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("false"));
+    }
+
+    @DisplayName("PUT /admin/promotion : fail - 관리자가 아니면 거부한다")
+    @WithUserDetails("moon@naver.com")
+    @Test
+    public void update_promotions_forbidden_test() throws Exception {
+        // given
+        PromotionUpdateRequest request = new PromotionUpdateRequest(Map.of(), List.of());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                put("/admin/promotion")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isForbidden());
+    }
+}
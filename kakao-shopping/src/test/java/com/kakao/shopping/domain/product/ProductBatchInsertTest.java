@@ -0,0 +1,65 @@
+package com.kakao.shopping.domain.product;
+
+import com.kakao.shopping.domain.Product;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Product Batch Insert Test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ProductBatchInsertTest {
+    private static final int PRODUCT_COUNT = 1000;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductBatchInsertTest(
+            @Autowired EntityManagerFactory entityManagerFactory,
+            @Autowired EntityManager entityManager,
+            @Autowired TransactionTemplate transactionTemplate
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @DisplayName("대량 insert 는 batch 로 묶여 round trip 이 줄어든다")
+    @Test
+    public void batch_insert_round_trip_test() {
+        // given
+        long withoutBatch = countStatements(1);
+
+        // when
+        long withBatch = countStatements(null);
+
+        // then
+        assertThat(withBatch).isLessThan(withoutBatch / 10);
+    }
+
+    // batchSize 가 null 이면 hibernate.jdbc.batch_size 설정을 따른다.
+    private long countStatements(Integer batchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (int i = 0; i < PRODUCT_COUNT; i++) {
+                entityManager.persist(Product.of("batch " + i, "", "images/batch", 1000L, null));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+}
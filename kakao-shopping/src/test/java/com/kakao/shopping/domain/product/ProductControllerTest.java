@@ -2,19 +2,27 @@ package com.kakao.shopping.domain.product;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kakao.shopping.dto.product.request.OptionStockUpdateRequest;
+import com.kakao.shopping.dto.product.request.ProductInsertRequest;
 import com.kakao.shopping.dto.product.request.ProductUpdateRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("Product Controller Test")
 @AutoConfigureMockMvc
@@ -50,6 +58,62 @@ public class ProductControllerTest {
         resultActions.andExpect(jsonPath("$.response[0].price").value(1000));
     }
 
+    @DisplayName("GET /product?cursor= : success")
+    @Test
+    public void select_by_cursor_success_test() throws Exception {
+        // given
+        String cursor = "";
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/product")
+                        .param("cursor", cursor)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.products[0].name").value("기본에 슬라이딩 지퍼백 크리스마스/플라워에디션 에디션 외 주방용품 특가전"));
+        resultActions.andExpect(jsonPath("$.response.products.length()").value(9));
+        resultActions.andExpect(jsonPath("$.response.nextCursor").isNotEmpty());
+    }
+
+    @DisplayName("GET /product?cursor= : success - next page")
+    @Test
+    public void select_next_by_cursor_success_test() throws Exception {
+        // given
+        String firstPage = mockMvc.perform(get("/product").param("cursor", ""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        String cursor = objectMapper.readTree(firstPage).at("/response/nextCursor").asText();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/product")
+                        .param("cursor", cursor)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.products[0].id").value(10));
+    }
+
+    @DisplayName("GET /product?cursor= : fail - invalid cursor")
+    @Test
+    public void select_by_cursor_fail_test_invalid_cursor() throws Exception {
+        // given
+        String cursor = "invalid";
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/product")
+                        .param("cursor", cursor)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("false"));
+    }
+
     @DisplayName("GET /product/{id} : success")
     @Test
     public void findByIdTest() throws Exception {
@@ -66,6 +130,55 @@ public class ProductControllerTest {
         resultActions.andExpect(jsonPath("$.response.name").value("기본에 슬라이딩 지퍼백 크리스마스/플라워에디션 에디션 외 주방용품 특가전"));
     }
 
+    @DisplayName("GET /product/{id} : success - ETag 가 같으면 304 를 응답한다")
+    @Test
+    public void find_by_id_not_modified_test() throws Exception {
+        // given
+        Long productId = 1L;
+        String eTag = mockMvc.perform(get("/product/" + productId))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/product/" + productId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+        );
+
+        // then
+        resultActions.andExpect(status().isNotModified());
+        resultActions.andExpect(content().bytes(new byte[0]));
+    }
+
+    @DisplayName("GET /product : success - 상품 수정 후 ETag 가 바뀐다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void select_all_etag_changed_after_update_test() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/product").param("page", "0"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        ProductUpdateRequest request = new ProductUpdateRequest("etag name", "etag description", "etag image", 3000L);
+        mockMvc.perform(
+                put("/product/4")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/product")
+                        .param("page", "0")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+        );
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.response[3].name").value("etag name"));
+    }
+
     @DisplayName("PUT /product/stock : success")
     @WithUserDetails(value = "moon@naver.com")
     @Test
@@ -115,4 +228,119 @@ public class ProductControllerTest {
         resultActions.andExpect(jsonPath("$.response.image").value(testImage));
         resultActions.andExpect(jsonPath("$.response.price").value(testPrice));
     }
+
+    @DisplayName("GET /product/{id} : success - 상품 수정 후 캐시가 갱신된다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void find_by_id_after_update_product_test() throws Exception {
+        // given
+        Long productId = 3L;
+        mockMvc.perform(get("/product/" + productId));
+        ProductUpdateRequest request = new ProductUpdateRequest("cached name", "cached description", "cached image", 2000L);
+        mockMvc.perform(
+                put("/product/" + productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        );
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/product/" + productId)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.name").value("cached name"));
+        resultActions.andExpect(jsonPath("$.response.price").value(2000));
+    }
+
+    @DisplayName("GET /product/{id} : success - 재고 수정 후 캐시가 갱신된다")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void find_by_id_after_update_stock_test() throws Exception {
+        // given
+        Long productId = 1L;
+        Long optionId = 1L;
+        Long stock = 70L;
+        mockMvc.perform(get("/product/" + productId));
+        mockMvc.perform(
+                put("/product/stock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OptionStockUpdateRequest(optionId, stock)))
+        );
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/product/" + productId)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.productOptions[?(@.id == 1)].stock").value(70));
+    }
+
+    @DisplayName("POST /product/import : success - json")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void import_json_success_test() throws Exception {
+        // given
+        List<ProductInsertRequest> requests = IntStream.range(0, 1200)
+                .mapToObj(i -> new ProductInsertRequest("import " + i, "", "images/import", 1000L))
+                .toList();
+        String requestBody = objectMapper.writeValueAsString(requests);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/product/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.importedCount").value(1200));
+        resultActions.andExpect(jsonPath("$.response.chunks.length()").value(3));
+    }
+
+    @DisplayName("POST /product/import : success - csv")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void import_csv_success_test() throws Exception {
+        // given
+        String requestBody = """
+                name,description,image,price
+                "칫솔, 12입",,images/csv,9900
+                치약,"잇몸 ""케어""",images/csv,16900
+                """;
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/product/import")
+                        .contentType("text/csv")
+                        .content(requestBody)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("true"));
+        resultActions.andExpect(jsonPath("$.response.importedCount").value(2));
+    }
+
+    @DisplayName("POST /product/import : fail - invalid product")
+    @WithUserDetails(value = "moon@naver.com")
+    @Test
+    public void import_fail_test_invalid_product() throws Exception {
+        // given
+        List<ProductInsertRequest> requests = List.of(new ProductInsertRequest(null, "", "images/import", 1000L));
+        String requestBody = objectMapper.writeValueAsString(requests);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/product/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        resultActions.andExpect(jsonPath("$.success").value("false"));
+    }
 }
@@ -3,6 +3,7 @@ package com.kakao.shopping.domain.product;
 import com.kakao.shopping._core.security.CustomUserDetails;
 import com.kakao.shopping.domain.Product;
 import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.dto.product.request.StockCheckRequest;
 import com.kakao.shopping.dto.user.UserLoginRequest;
 import com.kakao.shopping.repository.OptionRepository;
 import com.kakao.shopping.repository.ProductRepository;
@@ -15,6 +16,15 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("ProductOption Test")
@@ -23,16 +33,19 @@ public class ProductOptionRepositoryTest {
     private final OptionRepository optionRepository;
     private final ProductRepository productRepository;
     private final AuthenticationManager authenticationManager;
+    private final EntityManagerFactory entityManagerFactory;
     private CustomUserDetails userDetails;
 
     public ProductOptionRepositoryTest(
             @Autowired OptionRepository optionRepository,
             @Autowired ProductRepository productRepository,
-            @Autowired AuthenticationManager authenticationManager
+            @Autowired AuthenticationManager authenticationManager,
+            @Autowired EntityManagerFactory entityManagerFactory
     ) {
         this.optionRepository = optionRepository;
         this.productRepository = productRepository;
         this.authenticationManager = authenticationManager;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @BeforeEach
@@ -106,4 +119,76 @@ public class ProductOptionRepositoryTest {
         // then
         assertThat(optionRepository.count()).isEqualTo(previous_count - 1);
     }
+
+    @DisplayName("재고 차감 동시성 테스트")
+    @Test
+    public void decrease_stock_concurrency_test() throws InterruptedException {
+        // given
+        long stock = 100L;
+        int requestCount = 3000;
+        Product product = productRepository.findById(1L).orElseThrow();
+        ProductOption option = optionRepository.save(
+                ProductOption.builder()
+                        .product(product)
+                        .name("concurrency test")
+                        .price(1000L)
+                        .stock(stock)
+                        .userAccount(userDetails.getUserAccount())
+                        .build()
+        );
+        List<StockCheckRequest> requests = List.of(new StockCheckRequest(option.getId(), 1L));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (optionRepository.decreaseStockAll(requests) == 1) {
+                        successCount.incrementAndGet();
+                    }
+                }
+                finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(stock);
+        assertThat(optionRepository.findById(option.getId()).orElseThrow())
+                .extracting("stock")
+                .isEqualTo(0L);
+    }
+
+    @DisplayName("재고 차감 후 2차 캐시에 이전 재고가 남지 않는다")
+    @Test
+    public void decrease_stock_evicts_second_level_cache_test() {
+        // given
+        Product product = productRepository.findById(1L).orElseThrow();
+        ProductOption option = optionRepository.save(
+                ProductOption.builder()
+                        .product(product)
+                        .name("cache test")
+                        .price(1000L)
+                        .stock(10L)
+                        .userAccount(userDetails.getUserAccount())
+                        .build()
+        );
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(ProductOption.class, option.getId())).isTrue();
+
+        // when
+        optionRepository.decreaseStockAll(List.of(new StockCheckRequest(option.getId(), 3L)));
+
+        // then
+        assertThat(cache.contains(ProductOption.class, option.getId())).isFalse();
+        assertThat(optionRepository.findById(option.getId()).orElseThrow())
+                .extracting("stock")
+                .isEqualTo(7L);
+    }
 }
@@ -0,0 +1,156 @@
+package com.kakao.shopping.domain.product;
+
+import com.kakao.shopping._core.datasource.ReplicaStickiness;
+import com.kakao.shopping._core.datasource.ReplicationRoutingDataSource;
+import com.kakao.shopping.domain.Product;
+import com.kakao.shopping.domain.ProductOption;
+import com.kakao.shopping.domain.UserAccount;
+import com.kakao.shopping.dto.cart.CartDTO;
+import com.kakao.shopping.dto.cart.request.CartInsertRequest;
+import com.kakao.shopping.repository.UserAccountRepository;
+import com.kakao.shopping.service.CartService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 개의 H2 in-memory DB 를 primary / replica 로 사용하여 연결 대상을 확인한다.
+@DisplayName("Replica Routing Test")
+public class ReplicaRoutingTest {
+    private static final Long USER_ID = 1L;
+
+    private ReplicaStickiness stickiness;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    public void setUp() {
+        stickiness = new ReplicaStickiness(5L);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(
+                h2("primary"),
+                h2("replica"),
+                stickiness,
+                () -> USER_ID
+        ));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 replica 로 연결된다")
+    @Test
+    public void read_only_transaction_test() {
+        // given
+
+        // when
+        String database = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("replica");
+    }
+
+    @DisplayName("쓰기 트랜잭션은 primary 로 연결된다")
+    @Test
+    public void write_transaction_test() {
+        // given
+
+        // when
+        String database = writeTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("primary");
+    }
+
+    @DisplayName("변경한 사용자의 읽기 전용 트랜잭션은 primary 로 연결된다")
+    @Test
+    public void sticky_read_only_transaction_test() {
+        // given
+        writeTransaction.executeWithoutResult(status -> stickiness.markWritten(USER_ID));
+
+        // when
+        String database = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("primary");
+    }
+
+    /*
+    replica 를 설정한 애플리케이션에서 확인한다. replica 는 테스트 DB 를 그대로 가리키며, 연결 대상과 관계없이
+    replica 경로의 조회가 공유되는 2차 캐시를 채우지 않는지 확인한다.
+     */
+    @DisplayName("Replica Second Level Cache Test")
+    @SpringBootTest(properties = "datasource.replica.url=jdbc:h2:mem:test;MODE=MySQL;DB_CLOSE_DELAY=-1")
+    @Nested
+    class SecondLevelCacheTest {
+        private static final Long CART_OPTION_ID = 1L;
+
+        private final CartService cartService;
+        private final UserAccountRepository userAccountRepository;
+        private final EntityManagerFactory entityManagerFactory;
+
+        SecondLevelCacheTest(
+                @Autowired CartService cartService,
+                @Autowired UserAccountRepository userAccountRepository,
+                @Autowired EntityManagerFactory entityManagerFactory
+        ) {
+            this.cartService = cartService;
+            this.userAccountRepository = userAccountRepository;
+            this.entityManagerFactory = entityManagerFactory;
+        }
+
+        @DisplayName("GET /cart 의 캐시 miss 는 replica 에서 읽은 옵션과 상품을 2차 캐시에 넣지 않는다")
+        @Test
+        public void cart_snapshot_bypasses_second_level_cache_test() {
+            // given
+            UserAccount userAccount = userAccountRepository.save(
+                    UserAccount.builder()
+                            .name("replica")
+                            .email("replica-" + UUID.randomUUID() + "@kakao.com")
+                            .password("qwer1234!")
+                            .birthdate(LocalDate.of(2000, 1, 1))
+                            .build()
+            );
+            cartService.addCartList(List.of(new CartInsertRequest(CART_OPTION_ID, 1L)), userAccount);
+            Cache cache = entityManagerFactory.getCache();
+            cache.evictAll();
+
+            // when
+            CartDTO cart = cartService.findAll(userAccount);
+
+            // then
+            assertThat(cart.products()).hasSize(1);
+            assertThat(cache.contains(ProductOption.class, CART_OPTION_ID)).isFalse();
+            assertThat(cache.contains(Product.class, cart.products().get(0).id())).isFalse();
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,140 @@
+package com.kakao.shopping.domain.product;
+
+import com.kakao.shopping._core.errors.exception.OutOfStockException;
+import com.kakao.shopping._core.stock.StockLedger;
+import com.kakao.shopping.dto.product.request.StockCheckRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Stock Ledger Test")
+@SpringBootTest(properties = {
+        "stock.ledger.enabled=true",
+        "stock.ledger.hot-threshold=1",
+        "stock.ledger.log-path=build/stock-ledger-test.log"
+})
+public class StockLedgerTest {
+    private static final Long OPTION_ID = 1L;
+    private static final int REPEAT_COUNT = 200;
+
+    private final StockLedger stockLedger;
+    private final TransactionTemplate transactionTemplate;
+
+    public StockLedgerTest(
+            @Autowired StockLedger stockLedger,
+            @Autowired TransactionTemplate transactionTemplate
+    ) {
+        this.stockLedger = stockLedger;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @DisplayName("판매자의 재고 수정은 열려 있는 예약이 끝난 뒤에 적용된다")
+    @Test
+    public void update_stock_during_reservation_test() throws Exception {
+        // given
+        promote(OPTION_ID);
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch rollback = new CountDownLatch(1);
+        CompletableFuture<Void> reservation = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            stockLedger.reserveAll(List.of(new StockCheckRequest(OPTION_ID, 3L)));
+            reserved.countDown();
+            await(rollback);
+            status.setRollbackOnly();
+        }));
+        reserved.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<Void> update = CompletableFuture.runAsync(() -> stockLedger.updateStock(OPTION_ID, 5L, () -> null));
+        Thread.sleep(200);
+        boolean updatedBeforeRollback = update.isDone();
+        rollback.countDown();
+        reservation.get(5, TimeUnit.SECONDS);
+        update.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(updatedBeforeRollback).isFalse();
+        assertThatThrownBy(() -> reserveAndRollback(6L)).isInstanceOf(OutOfStockException.class);
+        reserveAndRollback(5L);
+    }
+
+    /*
+    옵션 (2, 65) 와 (1, 66) 은 lock index 가 (2, 1), (1, 2) 로 서로 엇갈린다.
+    두 주문과 두 옵션의 재고 수정을 반복해도 모두 제한 시간 안에 끝나야 한다.
+     */
+    @DisplayName("lock 이 엇갈리는 두 주문과 재고 수정이 동시에 실행되어도 deadlock 이 생기지 않는다")
+    @Test
+    public void crossing_reservations_with_update_stock_test() throws Exception {
+        // given
+        promote(1L);
+        promote(2L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            List<CompletableFuture<Void>> futures = List.of(
+                    repeat(executor, () -> reserveAndRollback(List.of(new StockCheckRequest(2L, 1L), new StockCheckRequest(65L, 1L)))),
+                    repeat(executor, () -> reserveAndRollback(List.of(new StockCheckRequest(1L, 1L), new StockCheckRequest(66L, 1L)))),
+                    repeat(executor, () -> stockLedger.updateStock(1L, 1000L, () -> null)),
+                    repeat(executor, () -> stockLedger.updateStock(2L, 1000L, () -> null))
+            );
+
+            // then
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private static CompletableFuture<Void> repeat(ExecutorService executor, Runnable action) {
+        return CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < REPEAT_COUNT; i++) {
+                action.run();
+            }
+        }, executor);
+    }
+
+    private void reserveAndRollback(List<StockCheckRequest> requests) {
+        transactionTemplate.executeWithoutResult(status -> {
+            stockLedger.reserveAll(requests);
+            status.setRollbackOnly();
+        });
+    }
+
+    // hot-threshold 가 1 이므로 한 번의 요청으로 승격된다.
+    private void promote(Long optionId) throws InterruptedException {
+        reserveAndRollback(List.of(new StockCheckRequest(optionId, 1L)));
+        for (int i = 0; i < 50 && !stockLedger.isHot(optionId); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(stockLedger.isHot(optionId)).isTrue();
+    }
+
+    private void reserveAndRollback(long quantity) {
+        reserveAndRollback(List.of(new StockCheckRequest(OPTION_ID, quantity)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.kakao.shopping.domain.product;
+
+import com.kakao.shopping._core.stock.StripedStockCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StripedStockCounter Test")
+public class StripedStockCounterTest {
+    @DisplayName("동시 예약 시 재고를 초과하여 예약되지 않는다")
+    @Test
+    public void reserve_concurrency_test() throws InterruptedException {
+        // given
+        long stock = 1000L;
+        int requestCount = 10000;
+        StripedStockCounter counter = new StripedStockCounter(stock, 16);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicLong reserved = new AtomicLong();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            long quantity = i % 3 + 1;
+            executorService.submit(() -> {
+                try {
+                    if (counter.tryReserve(quantity)) {
+                        reserved.addAndGet(quantity);
+                    }
+                }
+                finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        assertThat(reserved.get()).isLessThanOrEqualTo(stock);
+        assertThat(reserved.get() + counter.available()).isEqualTo(stock);
+    }
+
+    @DisplayName("하나의 stripe 보다 큰 수량도 여러 stripe 에서 모아 예약한다")
+    @Test
+    public void reserve_gather_test() {
+        // given
+        StripedStockCounter counter = new StripedStockCounter(20L, 16);
+
+        // when
+        boolean reserved = counter.tryReserve(20L);
+
+        // then
+        assertThat(reserved).isTrue();
+        assertThat(counter.available()).isZero();
+        assertThat(counter.tryReserve(1L)).isFalse();
+    }
+}
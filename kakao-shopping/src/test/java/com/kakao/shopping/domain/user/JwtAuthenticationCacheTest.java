@@ -0,0 +1,73 @@
+package com.kakao.shopping.domain.user;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.kakao.shopping._core.security.CustomUserDetails;
+import com.kakao.shopping._core.security.JwtAuthenticationCache;
+import com.kakao.shopping._core.security.JwtTokenProvider;
+import com.kakao.shopping.domain.UserAccount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtAuthenticationCache Test")
+public class JwtAuthenticationCacheTest {
+    @DisplayName("같은 토큰은 한 번만 검증한다")
+    @Test
+    public void authenticate_cached_test() {
+        // given
+        UserAccount userAccount = UserAccount.builder().id(1L).email("moon@naver.com").roles("ROLE_USER").build();
+        String token = JwtTokenProvider.create(userAccount);
+        JwtAuthenticationCache cache = new JwtAuthenticationCache();
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        // when
+        Authentication first = cache.authenticate(token, value -> {
+            verifyCount.incrementAndGet();
+            return JwtTokenProvider.verify(value);
+        });
+        Authentication second = cache.authenticate(token, value -> {
+            verifyCount.incrementAndGet();
+            return JwtTokenProvider.verify(value);
+        });
+
+        // then
+        assertThat(verifyCount.get()).isEqualTo(1);
+        assertThat(((CustomUserDetails) second.getPrincipal()).getUserAccount().getId()).isEqualTo(1L);
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(second).isNotSameAs(first);
+        assertThat(((CustomUserDetails) second.getPrincipal()).getUserAccount())
+                .isNotSameAs(((CustomUserDetails) first.getPrincipal()).getUserAccount());
+        assertThat(second.getName()).isEqualTo("moon@naver.com");
+    }
+
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+    @Test
+    public void authenticate_invalid_token_test() {
+        // given
+        String token = JWT.create()
+                .withSubject("moon@naver.com")
+                .withClaim("id", 1L)
+                .withClaim("role", "ROLE_ADMIN")
+                .sign(Algorithm.HMAC512("OtherSecretKey"));
+        JwtAuthenticationCache cache = new JwtAuthenticationCache();
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.authenticate(token, value -> {
+                verifyCount.incrementAndGet();
+                return JwtTokenProvider.verify(value);
+            })).isInstanceOf(SignatureVerificationException.class);
+        }
+
+        // then
+        assertThat(verifyCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kakao.shopping.domain.user;
+
+import com.kakao.shopping._core.errors.exception.TooManyRequestsException;
+import com.kakao.shopping._core.security.PasswordHasher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHasher Test")
+public class PasswordHasherTest {
+    @DisplayName("해시 작업이 한도를 넘으면 기다리지 않고 거절한다")
+    @Test
+    public void reject_when_saturated_test() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHasher passwordHasher = new PasswordHasher(new BlockingPasswordEncoder(started, release), 1, 0, 5000L);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("qwer1234!"));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> passwordHasher.encode("qwer1234!"))
+                .isInstanceOf(TooManyRequestsException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(1000L);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        passwordHasher.shutdown();
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return true;
+        }
+    }
+}